@@ -0,0 +1,76 @@
+package com.salary.management.benchmark;
+
+import com.salary.management.logic.SequenceBlockAccountNumberGenerator;
+import com.salary.management.logic.SequenceBlockAllocator;
+import com.salary.management.logic.SnowflakeAccountNumberGenerator;
+import com.salary.management.utils.LuhnCheckDigit;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+import static com.salary.management.utils.Constants.AccountNumber.*;
+
+/**
+ * Measures account number generation without a database: the production sequence generator
+ * with block reservations answered in memory, the snowflake generator, and the Luhn check digit
+ * alone. The snowflake generator issues at most 2^14 numbers per second and waits for the next
+ * second beyond that, so its average time includes those waits.
+ * Run with {@code ./gradlew jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AccountNumberBenchmark {
+
+    private static final String ELEVEN_DIGITS = "00000012345";
+
+    @Param({"100"})
+    private int bulkSize;
+
+    private SequenceBlockAccountNumberGenerator sequenceGenerator;
+    private SnowflakeAccountNumberGenerator snowflakeGenerator;
+
+    @Setup
+    public void setUp() {
+        sequenceGenerator = new SequenceBlockAccountNumberGenerator(
+                new SequenceBlockAllocator(new InMemorySequence(), SEQUENCE_BLOCK_SIZE));
+        snowflakeGenerator = new SnowflakeAccountNumberGenerator(0);
+    }
+
+    @Benchmark
+    public String sequenceAccountNumber() {
+        return sequenceGenerator.nextAccountNumber();
+    }
+
+    @Benchmark
+    public List<String> sequenceAccountNumbersBulk() {
+        return sequenceGenerator.nextAccountNumbers(bulkSize);
+    }
+
+    @Benchmark
+    public String snowflakeAccountNumber() {
+        return snowflakeGenerator.nextAccountNumber();
+    }
+
+    @Benchmark
+    public int luhnCheckDigit() {
+        return LuhnCheckDigit.compute(ELEVEN_DIGITS);
+    }
+
+    /**
+     * Answers block reservations in memory, one block per call.
+     */
+    private static final class InMemorySequence implements LongSupplier {
+
+        private long nextBlockStart = 1L;
+
+        @Override
+        public long getAsLong() {
+            long blockStart = nextBlockStart;
+            nextBlockStart += SEQUENCE_BLOCK_SIZE;
+            return blockStart;
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.salary.management.benchmark;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.OutputStreamAppender;
+import com.salary.management.utils.LogSampler;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+
+import static com.salary.management.utils.Constants.Logging.HOT_PATH_SAMPLE_INTERVAL;
+
+/**
+ * Measures what one INFO line per request costs the request thread on a hot path such as
+ * an employee lookup: a synchronous appender, the bounded non-blocking async appender of the
+ * async-logging profile, sampled logging, and a disabled level as the floor.
+ * Events are formatted with a Spring Boot-like pattern and written to a null stream, so the
+ * numbers exclude the terminal or disk and understate the synchronous cost in production.
+ * Run with {@code ./gradlew jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(4)
+public class HotPathLoggingBenchmark {
+
+    private static final String PATTERN =
+            "%d{yyyy-MM-dd'T'HH:mm:ss.SSSXXX} %5p ${PID:- } --- [%15.15t] %-40.40logger{39} : %m%n";
+
+    private LoggerContext loggerContext;
+    private Logger syncLogger;
+    private Logger asyncLogger;
+    private LogSampler sampler;
+
+    @Setup
+    public void setUp() {
+        loggerContext = new LoggerContext();
+
+        Appender<ILoggingEvent> syncAppender = nullAppender("SYNC");
+        syncLogger = logger("sync", syncAppender);
+
+        AsyncAppender asyncAppender = new AsyncAppender();
+        asyncAppender.setContext(loggerContext);
+        asyncAppender.setName("ASYNC");
+        asyncAppender.setQueueSize(8192);
+        asyncAppender.setDiscardingThreshold(1638);
+        asyncAppender.setNeverBlock(true);
+        asyncAppender.setIncludeCallerData(false);
+        asyncAppender.addAppender(nullAppender("ASYNC_TARGET"));
+        asyncAppender.start();
+        asyncLogger = logger("async", asyncAppender);
+
+        sampler = new LogSampler(HOT_PATH_SAMPLE_INTERVAL);
+    }
+
+    @TearDown
+    public void tearDown() {
+        loggerContext.stop();
+    }
+
+    @Benchmark
+    public void syncInfoPerCall() {
+        syncLogger.info("Retrieving employee with employee ID: {}", "0042");
+    }
+
+    @Benchmark
+    public void asyncInfoPerCall() {
+        asyncLogger.info("Retrieving employee with employee ID: {}", "0042");
+    }
+
+    @Benchmark
+    public void sampledInfo() {
+        if (sampler.tryAcquire()) {
+            syncLogger.info("Retrieved employee {} ({} more lookups since the last report)",
+                    "0042", sampler.drainSuppressed());
+        }
+    }
+
+    @Benchmark
+    public void debugDisabled() {
+        syncLogger.debug("Retrieving employee with employee ID: {}", "0042");
+    }
+
+    private Logger logger(String name, Appender<ILoggingEvent> appender) {
+        Logger logger = loggerContext.getLogger("com.salary.management.benchmark." + name);
+        logger.setLevel(Level.INFO);
+        logger.setAdditive(false);
+        logger.addAppender(appender);
+        return logger;
+    }
+
+    private OutputStreamAppender<ILoggingEvent> nullAppender(String name) {
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(loggerContext);
+        encoder.setPattern(PATTERN);
+        encoder.start();
+
+        OutputStreamAppender<ILoggingEvent> appender = new OutputStreamAppender<>();
+        appender.setContext(loggerContext);
+        appender.setName(name);
+        appender.setEncoder(encoder);
+        appender.setOutputStream(OutputStream.nullOutputStream());
+        appender.start();
+        return appender;
+    }
+}
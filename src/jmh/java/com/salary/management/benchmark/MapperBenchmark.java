@@ -0,0 +1,112 @@
+package com.salary.management.benchmark;
+
+import com.salary.management.dto.CompanyAccount.CompanyAccountRequestDTO;
+import com.salary.management.dto.CompanyAccount.CompanyAccountResponseDTO;
+import com.salary.management.dto.CompanyAccount.CompanyAccountUpdateRequestDTO;
+import com.salary.management.dto.Employee.EmployeeRequestDTO;
+import com.salary.management.dto.Employee.EmployeeResponseDTO;
+import com.salary.management.entity.AccountType;
+import com.salary.management.entity.BankAccount;
+import com.salary.management.entity.CompanyAccount;
+import com.salary.management.entity.Employee;
+import com.salary.management.logic.GradeSalaryTable;
+import com.salary.management.mapper.CompanyAccountMapper;
+import com.salary.management.mapper.EmployeeMapper;
+import com.salary.management.utils.Money;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the entity/DTO mappers on the employee and company account request paths.
+ * Run with {@code ./gradlew jmh}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MapperBenchmark {
+
+    private GradeSalaryTable gradeSalaryTable;
+    private Employee employee;
+    private EmployeeRequestDTO employeeRequest;
+    private BankAccount bankAccount;
+    private CompanyAccount companyAccount;
+    private CompanyAccountRequestDTO companyAccountRequest;
+    private CompanyAccountUpdateRequestDTO companyAccountUpdate;
+
+    @Setup
+    public void setUp() {
+        gradeSalaryTable = GradeSalaryTable.build(Money.ofMajor(20_000));
+
+        bankAccount = new BankAccount();
+        bankAccount.setAccountName("Employee 1");
+        bankAccount.setAccountNumber("000000000018");
+        bankAccount.setCurrentBalance(new BigDecimal("1520.75"));
+        bankAccount.setBankName("Test Bank");
+        bankAccount.setBranchName("Main");
+        bankAccount.setAccountType(AccountType.SAVINGS);
+
+        employee = new Employee();
+        employee.setEmployeeId("0001");
+        employee.setName("Employee 1");
+        employee.setGrade(3);
+        employee.setAddress("Dhaka");
+        employee.setMobileNumber("01700000000");
+        employee.setBankAccount(bankAccount);
+
+        employeeRequest = new EmployeeRequestDTO();
+        employeeRequest.setName("Employee 1");
+        employeeRequest.setGrade(3);
+        employeeRequest.setAddress("Dhaka");
+        employeeRequest.setMobileNumber("01700000000");
+        employeeRequest.setAccountName("Employee 1");
+        employeeRequest.setAccountNumber("000000000018");
+
+        companyAccount = new CompanyAccount();
+        companyAccount.setAccountName("Company");
+        companyAccount.setAccountNumber("000000000026");
+        companyAccount.setCurrentBalance(new BigDecimal("1000000.00"));
+        companyAccount.setBankName("Test Bank");
+        companyAccount.setBranchName("Main");
+        companyAccount.setPaidBalance(new BigDecimal("250000.00"));
+
+        companyAccountRequest = new CompanyAccountRequestDTO();
+        companyAccountRequest.setAccountName("Company");
+        companyAccountRequest.setCurrentBalance(new BigDecimal("1000000.00"));
+        companyAccountRequest.setBankName("Test Bank");
+        companyAccountRequest.setBranchName("Main");
+
+        companyAccountUpdate = new CompanyAccountUpdateRequestDTO();
+        companyAccountUpdate.setAccountNumber("000000000026");
+        companyAccountUpdate.setAccountName("Company");
+        companyAccountUpdate.setBankName("Other Bank");
+        companyAccountUpdate.setBranchName("North");
+    }
+
+    @Benchmark
+    public EmployeeResponseDTO employeeToResponseDto() {
+        return EmployeeMapper.toResponseDto(employee, gradeSalaryTable.forGrade(employee.getGrade()));
+    }
+
+    @Benchmark
+    public Employee employeeToEntity() {
+        return EmployeeMapper.toEntity(employeeRequest, bankAccount);
+    }
+
+    @Benchmark
+    public CompanyAccountResponseDTO companyAccountToResponseDto() {
+        return CompanyAccountMapper.toResponseDto(companyAccount);
+    }
+
+    @Benchmark
+    public CompanyAccount companyAccountToEntity() {
+        return CompanyAccountMapper.toEntity(companyAccountRequest);
+    }
+
+    @Benchmark
+    public CompanyAccount companyAccountUpdateEntity() {
+        CompanyAccountMapper.updateEntity(companyAccount, companyAccountUpdate);
+        return companyAccount;
+    }
+}
@@ -0,0 +1,120 @@
+package com.salary.management.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.salary.management.dto.Employee.EmployeeResponseDTO;
+import com.salary.management.entity.AccountType;
+import com.salary.management.entity.BankAccount;
+import com.salary.management.entity.Employee;
+import com.salary.management.logic.GradeSalaryTable;
+import com.salary.management.mapper.EmployeeMapper;
+import com.salary.management.response.ApiResponse;
+import com.salary.management.response.CustomResponse;
+import com.salary.management.response.PaginationResponse;
+import com.salary.management.utils.Money;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.HttpStatus;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static com.salary.management.utils.Constants.Response.DATA_KEY;
+import static com.salary.management.utils.Constants.Response.MESSAGE_KEY;
+import static com.salary.management.utils.Constants.Response.META_DATA;
+import static com.salary.management.utils.Constants.Response.STATUS_CODE;
+import static com.salary.management.utils.Constants.Response.STATUS_KEY;
+
+/**
+ * Compares building and serialising the previous HashMap response envelope with the typed
+ * ApiResponse envelope, for a single employee and for one page of employees.
+ * Run with {@code ./gradlew jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ResponseSerializationBenchmark {
+
+    private static final String SINGLE_MESSAGE = "Employee retrieved successfully";
+    private static final String LIST_MESSAGE = "Employees retrieved successfully";
+
+    @Param({"20", "100"})
+    private int pageSize;
+
+    private ObjectMapper objectMapper;
+    private EmployeeResponseDTO employee;
+    private CustomResponse<EmployeeResponseDTO> employeePage;
+
+    @Setup
+    public void setUp() {
+        objectMapper = new ObjectMapper();
+        GradeSalaryTable gradeSalaryTable = GradeSalaryTable.build(Money.ofMajor(20_000));
+
+        List<EmployeeResponseDTO> employees = new ArrayList<>(pageSize);
+        for (int i = 1; i <= pageSize; i++) {
+            Employee entity = employee(i);
+            employees.add(EmployeeMapper.toResponseDto(entity, gradeSalaryTable.forGrade(entity.getGrade())));
+        }
+        employee = employees.get(0);
+        employeePage = new CustomResponse<>(employees, new PaginationResponse(pageSize, null, (long) pageSize, true, false));
+    }
+
+    @Benchmark
+    public byte[] singleEmployeeHashMap() throws Exception {
+        return objectMapper.writeValueAsBytes(legacyEnvelope(SINGLE_MESSAGE, HttpStatus.OK, employee));
+    }
+
+    @Benchmark
+    public byte[] singleEmployeeApiResponse() throws Exception {
+        return objectMapper.writeValueAsBytes(ApiResponse.of(HttpStatus.OK, SINGLE_MESSAGE, employee));
+    }
+
+    @Benchmark
+    public byte[] employeePageHashMap() throws Exception {
+        return objectMapper.writeValueAsBytes(legacyEnvelope(LIST_MESSAGE, HttpStatus.OK, employeePage));
+    }
+
+    @Benchmark
+    public byte[] employeePageApiResponse() throws Exception {
+        return objectMapper.writeValueAsBytes(ApiResponse.of(HttpStatus.OK, LIST_MESSAGE, employeePage));
+    }
+
+    /**
+     * The envelope ResponseHandler built before ApiResponse: two HashMaps and a boxed status code per response.
+     */
+    private static Map<String, Object> legacyEnvelope(String message, HttpStatus status, Object responseObj) {
+        Map<String, Object> response = new HashMap<String, Object>();
+        Map<String, Object> meta = new HashMap<String, Object>();
+
+        meta.put(STATUS_KEY, status);
+        meta.put(STATUS_CODE, status.value());
+        meta.put(MESSAGE_KEY, message);
+
+        response.put(META_DATA, meta);
+        if (responseObj != null) {
+            response.put(DATA_KEY, responseObj);
+        }
+        return response;
+    }
+
+    private static Employee employee(int index) {
+        BankAccount bankAccount = new BankAccount();
+        bankAccount.setAccountName("Employee " + index);
+        bankAccount.setAccountNumber(String.format("%012d", index));
+        bankAccount.setCurrentBalance(new BigDecimal("1520.75"));
+        bankAccount.setBankName("Test Bank");
+        bankAccount.setBranchName("Main");
+        bankAccount.setAccountType(AccountType.SAVINGS);
+
+        Employee employee = new Employee();
+        employee.setEmployeeId(String.format("%04d", index));
+        employee.setName("Employee " + index);
+        employee.setGrade(1 + index % 6);
+        employee.setAddress("Dhaka");
+        employee.setMobileNumber("01700000000");
+        employee.setBankAccount(bankAccount);
+        return employee;
+    }
+}
@@ -0,0 +1,86 @@
+package com.salary.management.benchmark;
+
+import com.salary.management.logic.GradeSalaryTable;
+import com.salary.management.utils.Money;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import static com.salary.management.utils.Constants.Salary.GRADE_COUNT;
+
+/**
+ * Compares the payroll arithmetic of the previous double/BigDecimal path with the Money path:
+ * computing a grade salary breakdown and totalling the salaries of a chunk of employees.
+ * Run with {@code ./gradlew jmh}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SalaryArithmeticBenchmark {
+
+    private static final double BASE_SALARY = 20000.0;
+
+    @Param({"200"})
+    private int chunkSize;
+
+    private int[] grades;
+    private Money baseSalary;
+    private GradeSalaryTable gradeSalaryTable;
+    private double[] legacyTotalByGrade;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        grades = new int[chunkSize];
+        for (int i = 0; i < chunkSize; i++) {
+            grades[i] = 1 + random.nextInt(GRADE_COUNT);
+        }
+        baseSalary = Money.of(BigDecimal.valueOf(BASE_SALARY));
+        gradeSalaryTable = GradeSalaryTable.build(baseSalary);
+        legacyTotalByGrade = new double[GRADE_COUNT];
+        for (int grade = 1; grade <= GRADE_COUNT; grade++) {
+            legacyTotalByGrade[grade - 1] = legacyTotalSalary(grade);
+        }
+    }
+
+    @Benchmark
+    public BigDecimal gradeBreakdownLegacy() {
+        BigDecimal total = BigDecimal.ZERO;
+        for (int grade = 1; grade <= GRADE_COUNT; grade++) {
+            total = total.add(BigDecimal.valueOf(legacyTotalSalary(grade)));
+        }
+        return total;
+    }
+
+    @Benchmark
+    public GradeSalaryTable gradeBreakdownMoney() {
+        return GradeSalaryTable.build(baseSalary);
+    }
+
+    @Benchmark
+    public BigDecimal chunkTotalLegacy() {
+        BigDecimal total = BigDecimal.ZERO;
+        for (int grade : grades) {
+            total = total.add(BigDecimal.valueOf(legacyTotalByGrade[grade - 1]));
+        }
+        return total;
+    }
+
+    @Benchmark
+    public long chunkTotalMoney() {
+        long totalMinor = 0L;
+        for (int grade : grades) {
+            totalMinor = Math.addExact(totalMinor, gradeSalaryTable.forGrade(grade).getTotalSalary().toMinorUnits());
+        }
+        return totalMinor;
+    }
+
+    private static double legacyTotalSalary(int grade) {
+        double basicSalary = BASE_SALARY + (GRADE_COUNT - grade) * 5000;
+        double houseRent = 0.20 * basicSalary;
+        double medicalAllowance = 0.15 * basicSalary;
+        return basicSalary + houseRent + medicalAllowance;
+    }
+}
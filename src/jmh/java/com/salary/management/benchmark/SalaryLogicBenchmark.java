@@ -0,0 +1,81 @@
+package com.salary.management.benchmark;
+
+import ch.qos.logback.classic.Level;
+import com.salary.management.entity.BaseSalary;
+import com.salary.management.logic.GradeSalaryTable;
+import com.salary.management.logic.GradeSalaryTable.GradeSalary;
+import com.salary.management.logic.SalaryLogic;
+import com.salary.management.repository.BaseSalaryRepository;
+import com.salary.management.utils.Money;
+import org.openjdk.jmh.annotations.*;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+import static com.salary.management.utils.Constants.Salary.GRADE_COUNT;
+import static com.salary.management.utils.Constants.Salary.LOWEST_GRADE_SALARY;
+
+/**
+ * Measures SalaryLogic against a stubbed BaseSalaryRepository: the per-request grade lookup,
+ * a rebuild after a base salary change, and the first lazy load of the grade table.
+ * Run with {@code ./gradlew jmh}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SalaryLogicBenchmark {
+
+    private BaseSalaryRepository baseSalaryRepository;
+    private SalaryLogic salaryLogic;
+    private Money baseSalary;
+    private int grade;
+
+    @Setup
+    public void setUp() {
+        // Rebuilds and loads log at INFO; keep the console out of the measurement
+        ((ch.qos.logback.classic.Logger) LoggerFactory.getLogger(SalaryLogic.class)).setLevel(Level.WARN);
+
+        BaseSalary entity = new BaseSalary();
+        entity.setDescription(LOWEST_GRADE_SALARY);
+        entity.setAmount(new BigDecimal("20000.00"));
+        baseSalaryRepository = stubRepository(entity);
+        baseSalary = Money.of(entity.getAmount());
+
+        salaryLogic = new SalaryLogic(baseSalaryRepository);
+        salaryLogic.getGradeSalaryTable();
+    }
+
+    @Benchmark
+    public GradeSalary salaryForGrade() {
+        grade = grade % GRADE_COUNT + 1;
+        return salaryLogic.getSalaryForGrade(grade);
+    }
+
+    @Benchmark
+    public GradeSalaryTable rebuildGradeSalaryTable() {
+        salaryLogic.rebuildGradeSalaryTable(baseSalary);
+        return salaryLogic.getGradeSalaryTable();
+    }
+
+    @Benchmark
+    public GradeSalaryTable lazyLoadGradeSalaryTable() {
+        return new SalaryLogic(baseSalaryRepository).getGradeSalaryTable();
+    }
+
+    /**
+     * A repository that answers findByDescription with the given entity and supports nothing else.
+     */
+    private static BaseSalaryRepository stubRepository(BaseSalary baseSalary) {
+        return (BaseSalaryRepository) Proxy.newProxyInstance(
+                BaseSalaryRepository.class.getClassLoader(),
+                new Class<?>[]{BaseSalaryRepository.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("findByDescription")) {
+                        return baseSalary;
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+    }
+}
@@ -0,0 +1,212 @@
+package com.salary.management.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+
+/**
+ * Minimal HTTP client for the endpoints exercised by the load benchmark.
+ * Requests are sent from virtual threads so the client never becomes the concurrency limit.
+ */
+public class ApiClient {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+    private static final int BULK_CHUNK_SIZE = 1000;
+
+    private final String baseUrl;
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    public ApiClient(String baseUrl) {
+        this.baseUrl = baseUrl;
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+    }
+
+    /**
+     * Sets the base salary of the lowest grade, required before employees can be read or paid.
+     */
+    public void setBaseSalary(long amount) throws IOException, InterruptedException {
+        ObjectNode body = objectMapper.createObjectNode().put("amount", amount);
+        expectSuccess(post("/api/salary/setBaseSalary", "application/json", body.toString()));
+    }
+
+    /**
+     * Creates bank accounts through the bulk endpoint.
+     *
+     * @return The created account numbers, in the order of the given account names.
+     */
+    public List<String> createBankAccounts(List<String> accountNames) throws IOException, InterruptedException {
+        List<String> accountNumbers = new ArrayList<>(accountNames.size());
+        for (int from = 0; from < accountNames.size(); from += BULK_CHUNK_SIZE) {
+            ObjectNode body = objectMapper.createObjectNode().put("mode", "ALL_OR_NOTHING");
+            ArrayNode accounts = body.putArray("accounts");
+            for (String accountName : accountNames.subList(from, Math.min(from + BULK_CHUNK_SIZE, accountNames.size()))) {
+                accounts.addObject()
+                        .put("accountName", accountName)
+                        .put("bankName", "Load Test Bank")
+                        .put("branchName", "Main")
+                        .put("accountType", "SAVINGS");
+            }
+            JsonNode response = readJson(expectSuccess(post("/api/bank-accounts/bulk", "application/json", body.toString())));
+            response.path("data").path("results").forEach(result -> accountNumbers.add(result.path("accountNumber").asText()));
+        }
+        return accountNumbers;
+    }
+
+    /**
+     * Imports one employee per bank account through the NDJSON import endpoint, spreading them over all grades.
+     *
+     * @return The IDs of the employees that were created.
+     */
+    public List<String> importEmployees(List<String> accountNames, List<String> accountNumbers)
+            throws IOException, InterruptedException {
+        StringBuilder body = new StringBuilder();
+        for (int i = 0; i < accountNames.size(); i++) {
+            ObjectNode row = objectMapper.createObjectNode()
+                    .put("name", accountNames.get(i))
+                    .put("grade", 1 + i % 6)
+                    .put("address", "Dhaka")
+                    .put("mobileNumber", "01700000000")
+                    .put("accountName", accountNames.get(i))
+                    .put("accountNumber", accountNumbers.get(i));
+            body.append(row).append('\n');
+        }
+
+        String results = expectSuccess(post("/api/employees/import", "application/x-ndjson", body.toString()));
+        List<String> employeeIds = new ArrayList<>();
+        for (String line : results.split("\n")) {
+            if (line.isBlank()) {
+                continue;
+            }
+            JsonNode result = objectMapper.readTree(line);
+            if ("CREATED".equals(result.path("status").asText())) {
+                employeeIds.add(result.path("employeeId").asText());
+            }
+        }
+        return employeeIds;
+    }
+
+    /**
+     * Creates a funded company account.
+     *
+     * @return The account number of the new company account.
+     */
+    public String createCompanyAccount(String accountName, long openingBalance) throws IOException, InterruptedException {
+        ObjectNode body = objectMapper.createObjectNode()
+                .put("accountName", accountName)
+                .put("currentBalance", openingBalance)
+                .put("bankName", "Load Test Bank")
+                .put("branchName", "Main");
+        JsonNode response = readJson(expectSuccess(post("/api/company-accounts", "application/json", body.toString())));
+        return response.path("data").path("accountNumber").asText();
+    }
+
+    /**
+     * Reads one employee.
+     *
+     * @return The HTTP status code.
+     */
+    public int getEmployee(String employeeId) throws IOException, InterruptedException {
+        return get("/api/employees/" + employeeId).statusCode();
+    }
+
+    /**
+     * Looks up one bank account by number and name.
+     *
+     * @return The HTTP status code.
+     */
+    public int searchBankAccount(String accountNumber, String accountName) throws IOException, InterruptedException {
+        ObjectNode body = objectMapper.createObjectNode()
+                .put("accountNumber", accountNumber)
+                .put("accountName", accountName);
+        return post("/api/bank-accounts/search", "application/json", body.toString()).statusCode();
+    }
+
+    /**
+     * Reads one keyset page of employees.
+     *
+     * @return The HTTP status code.
+     */
+    public int listEmployees(long cursor, int size) throws IOException, InterruptedException {
+        return get("/api/employees/all?cursor=" + cursor + "&size=" + size).statusCode();
+    }
+
+    /**
+     * Reads one keyset page of bank accounts.
+     *
+     * @return The HTTP status code.
+     */
+    public int listBankAccounts(long cursor, int size) throws IOException, InterruptedException {
+        return get("/api/bank-accounts?cursor=" + cursor + "&size=" + size).statusCode();
+    }
+
+    /**
+     * Adds funds to a company account.
+     *
+     * @return The HTTP status code.
+     */
+    public int addFunds(String companyAccountNumber, long amount) throws IOException, InterruptedException {
+        ObjectNode body = objectMapper.createObjectNode()
+                .put("accountNumber", companyAccountNumber)
+                .put("amount", amount);
+        return post("/api/company-accounts/add-funds", "application/json", body.toString()).statusCode();
+    }
+
+    /**
+     * Transfers one salary from a company account to an employee.
+     *
+     * @return The HTTP status code.
+     */
+    public int transferSalary(String companyAccountNumber, String employeeId) throws IOException, InterruptedException {
+        ObjectNode body = objectMapper.createObjectNode()
+                .put("companyAccountNumber", companyAccountNumber)
+                .put("employeeId", employeeId);
+        return post("/api/company-accounts/transfer-salary", "application/json", body.toString()).statusCode();
+    }
+
+    private HttpResponse<String> get(String path) throws IOException, InterruptedException {
+        return send(HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(REQUEST_TIMEOUT)
+                .GET()
+                .build());
+    }
+
+    private HttpResponse<String> post(String path, String contentType, String body) throws IOException, InterruptedException {
+        return send(HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Content-Type", contentType)
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build());
+    }
+
+    private HttpResponse<String> send(HttpRequest request) throws IOException, InterruptedException {
+        return httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private JsonNode readJson(String body) throws IOException {
+        return objectMapper.readTree(body);
+    }
+
+    private static String expectSuccess(HttpResponse<String> response) {
+        if (response.statusCode() / 100 != 2) {
+            throw new IllegalStateException("Seeding request " + response.request().uri()
+                    + " failed with status " + response.statusCode() + ": " + response.body());
+        }
+        return response.body();
+    }
+}
@@ -0,0 +1,32 @@
+package com.salary.management.loadtest;
+
+import com.salary.management.ManagementApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Self-contained load test: boots the application in this JVM on an in-memory H2 database in
+ * PostgreSQL mode (the embedded profile), then seeds it and runs the load benchmark against it
+ * with a mixed workload of lookups, list pages, added funds and concurrent salary transfers.
+ * Client and server share the machine, so compare results between runs on the same host only.
+ */
+public final class EmbeddedLoadTest {
+
+    private static final String DEFAULT_MIX = "employee-lookup=35,bank-account-lookup=10,employee-page=10,"
+            + "bank-account-page=5,add-funds=10,transfer-salary=30";
+
+    private EmbeddedLoadTest() {
+        // Private constructor to prevent instantiation
+    }
+
+    public static void main(String[] args) throws Exception {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(ManagementApplication.class)
+                .profiles("embedded")
+                .run(args)) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            LoadBenchmark.execute(LoadTestSettings.fromSystemProperties(
+                    "http://localhost:" + port, OperationMix.parse(DEFAULT_MIX)));
+        }
+    }
+}
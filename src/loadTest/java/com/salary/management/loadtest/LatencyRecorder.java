@@ -0,0 +1,83 @@
+package com.salary.management.loadtest;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Records request latencies per endpoint for a single virtual user, so recording needs no
+ * synchronization; the recorders of all users are merged once the run is over.
+ */
+public class LatencyRecorder {
+
+    private final Map<String, Samples> samplesByEndpoint = new TreeMap<>();
+
+    public void record(String endpoint, long latencyNanos, boolean success) {
+        samplesByEndpoint.computeIfAbsent(endpoint, key -> new Samples()).add(latencyNanos, success);
+    }
+
+    /**
+     * Adds the samples of another recorder to this one.
+     */
+    public void merge(LatencyRecorder other) {
+        other.samplesByEndpoint.forEach((endpoint, samples) ->
+                samplesByEndpoint.computeIfAbsent(endpoint, key -> new Samples()).addAll(samples));
+    }
+
+    /**
+     * Summarizes every endpoint over the given measurement window.
+     */
+    public Map<String, EndpointSummary> summarize(double elapsedSeconds) {
+        Map<String, EndpointSummary> summaries = new TreeMap<>();
+        samplesByEndpoint.forEach((endpoint, samples) -> summaries.put(endpoint, samples.summarize(elapsedSeconds)));
+        return summaries;
+    }
+
+    /**
+     * Latency distribution and throughput of one endpoint; latencies are in milliseconds.
+     */
+    public record EndpointSummary(long requests, long errors, double throughputPerSecond,
+                                  double p50Millis, double p90Millis, double p99Millis, double maxMillis) {
+    }
+
+    private static final class Samples {
+        private long[] latencies = new long[1024];
+        private int count;
+        private long errors;
+
+        void add(long latencyNanos, boolean success) {
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = latencyNanos;
+            if (!success) {
+                errors++;
+            }
+        }
+
+        void addAll(Samples other) {
+            if (count + other.count > latencies.length) {
+                latencies = Arrays.copyOf(latencies, Math.max(latencies.length * 2, count + other.count));
+            }
+            System.arraycopy(other.latencies, 0, latencies, count, other.count);
+            count += other.count;
+            errors += other.errors;
+        }
+
+        EndpointSummary summarize(double elapsedSeconds) {
+            long[] sorted = Arrays.copyOf(latencies, count);
+            Arrays.sort(sorted);
+            return new EndpointSummary(count, errors, count / elapsedSeconds,
+                    percentile(sorted, 0.50), percentile(sorted, 0.90), percentile(sorted, 0.99),
+                    count == 0 ? 0 : sorted[count - 1] / 1_000_000.0);
+        }
+
+        private static double percentile(long[] sorted, double quantile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(quantile * sorted.length) - 1;
+            return sorted[Math.max(index, 0)] / 1_000_000.0;
+        }
+    }
+}
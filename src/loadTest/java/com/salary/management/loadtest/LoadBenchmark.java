@@ -0,0 +1,197 @@
+package com.salary.management.loadtest;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * HTTP load benchmark, by default for the employee read and salary transfer endpoints.
+ * Seeds its own data, warms the server up, then runs a fixed number of virtual users in a
+ * closed loop for a fixed duration. Throughput and p50/p90/p99 latency per endpoint are
+ * printed and written to a CSV file.
+ * Run it once against an instance on platform threads and once against one started with the
+ * virtual-threads profile, with the same settings, and compare the two reports.
+ */
+public final class LoadBenchmark {
+
+    private static final long BASE_SALARY = 20_000L;
+    // Enough for sustained transfer load over a long run; still fits the precision-15 balance columns
+    private static final long COMPANY_OPENING_BALANCE = 1_000_000_000_000L;
+    private static final long ADDED_FUNDS = 1_000L;
+    private static final int PAGE_SIZE = 20;
+
+    private LoadBenchmark() {
+        // Private constructor to prevent instantiation
+    }
+
+    public static void main(String[] args) throws Exception {
+        execute(LoadTestSettings.fromSystemProperties());
+    }
+
+    /**
+     * Seeds, warms up and measures the application at the base URL of the settings, then reports.
+     */
+    static void execute(LoadTestSettings settings) throws Exception {
+        ApiClient client = new ApiClient(settings.baseUrl());
+
+        System.out.printf("Seeding %d employees and %d company accounts on %s%n",
+                settings.employees(), settings.companyAccounts(), settings.baseUrl());
+        Workload workload = seed(client, settings);
+        if (workload.employeeIds().isEmpty()) {
+            throw new IllegalStateException("No employees could be created; raise employee.grade-limits on the server");
+        }
+        if (workload.employeeIds().size() < settings.employees()) {
+            System.out.printf("Only %d employees were created; the grade limits of the server are lower than requested%n",
+                    workload.employeeIds().size());
+        }
+
+        System.out.printf("Warming up for %d s%n", settings.warmupSeconds());
+        run(client, settings, workload, settings.warmupSeconds());
+
+        System.out.printf("Measuring %d virtual users for %d s with mix %s%n",
+                settings.virtualUsers(), settings.durationSeconds(), settings.mix());
+        long start = System.nanoTime();
+        LatencyRecorder recorder = run(client, settings, workload, settings.durationSeconds());
+        double elapsedSeconds = (System.nanoTime() - start) / 1e9;
+
+        Map<String, LatencyRecorder.EndpointSummary> summaries = recorder.summarize(elapsedSeconds);
+        printReport(settings, summaries);
+        writeReport(settings, summaries);
+    }
+
+    /**
+     * Creates the base salary, employees with their bank accounts, and funded company accounts.
+     */
+    static Workload seed(ApiClient client, LoadTestSettings settings) throws Exception {
+        client.setBaseSalary(BASE_SALARY);
+
+        // A run-specific prefix keeps repeated runs against the same database apart
+        String prefix = "LT" + Long.toString(System.currentTimeMillis(), 36).toUpperCase(Locale.ROOT);
+        List<String> accountNames = new ArrayList<>(settings.employees());
+        for (int i = 0; i < settings.employees(); i++) {
+            accountNames.add(prefix + " Employee " + i);
+        }
+        List<String> accountNumbers = client.createBankAccounts(accountNames);
+        List<String> employeeIds = client.importEmployees(accountNames, accountNumbers);
+
+        List<String> companyAccountNumbers = new ArrayList<>(settings.companyAccounts());
+        for (int i = 0; i < settings.companyAccounts(); i++) {
+            companyAccountNumbers.add(client.createCompanyAccount(prefix + " Company " + i, COMPANY_OPENING_BALANCE));
+        }
+        return new Workload(employeeIds, accountNames, accountNumbers, companyAccountNumbers);
+    }
+
+    /**
+     * Runs every virtual user in a closed loop until the duration is over and merges their recordings.
+     */
+    static LatencyRecorder run(ApiClient client, LoadTestSettings settings, Workload workload, int durationSeconds)
+            throws Exception {
+        long deadline = System.nanoTime() + durationSeconds * 1_000_000_000L;
+        List<Future<LatencyRecorder>> users = new ArrayList<>(settings.virtualUsers());
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int user = 0; user < settings.virtualUsers(); user++) {
+                SplittableRandom random = new SplittableRandom(user);
+                users.add(executor.submit(() -> runVirtualUser(client, settings, workload, random, deadline)));
+            }
+
+            LatencyRecorder merged = new LatencyRecorder();
+            for (Future<LatencyRecorder> user : users) {
+                merged.merge(user.get());
+            }
+            return merged;
+        }
+    }
+
+    private static LatencyRecorder runVirtualUser(ApiClient client, LoadTestSettings settings, Workload workload,
+                                                  SplittableRandom random, long deadline) {
+        LatencyRecorder recorder = new LatencyRecorder();
+        while (System.nanoTime() < deadline) {
+            Operation operation = settings.mix().pick(random);
+
+            long start = System.nanoTime();
+            boolean success;
+            try {
+                success = send(client, operation, workload, random) / 100 == 2;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (Exception e) {
+                success = false;
+            }
+            recorder.record(operation.endpoint(), System.nanoTime() - start, success);
+        }
+        return recorder;
+    }
+
+    /**
+     * Sends one request of the given operation on randomly chosen seeded data.
+     *
+     * @return The HTTP status code.
+     */
+    private static int send(ApiClient client, Operation operation, Workload workload, SplittableRandom random)
+            throws IOException, InterruptedException {
+        return switch (operation) {
+            case EMPLOYEE_LOOKUP -> client.getEmployee(pick(workload.employeeIds(), random));
+            case BANK_ACCOUNT_LOOKUP -> {
+                int account = random.nextInt(workload.bankAccountNumbers().size());
+                yield client.searchBankAccount(workload.bankAccountNumbers().get(account),
+                        workload.bankAccountNames().get(account));
+            }
+            // Keyset pages from a random position; cursors are database IDs, roughly 1..N after seeding
+            case EMPLOYEE_PAGE -> client.listEmployees(random.nextInt(workload.employeeIds().size()), PAGE_SIZE);
+            case BANK_ACCOUNT_PAGE -> client.listBankAccounts(random.nextInt(workload.bankAccountNumbers().size()), PAGE_SIZE);
+            case ADD_FUNDS -> client.addFunds(pick(workload.companyAccountNumbers(), random), ADDED_FUNDS);
+            case TRANSFER_SALARY -> client.transferSalary(pick(workload.companyAccountNumbers(), random),
+                    pick(workload.employeeIds(), random));
+        };
+    }
+
+    private static String pick(List<String> values, SplittableRandom random) {
+        return values.get(random.nextInt(values.size()));
+    }
+
+    private static void printReport(LoadTestSettings settings, Map<String, LatencyRecorder.EndpointSummary> summaries) {
+        System.out.printf("%nRun: %s (%d virtual users, %d s)%n", settings.label(), settings.virtualUsers(),
+                settings.durationSeconds());
+        System.out.printf("%-46s %9s %7s %10s %9s %9s %9s %9s%n",
+                "Endpoint", "Requests", "Errors", "Req/s", "p50 ms", "p90 ms", "p99 ms", "max ms");
+        summaries.forEach((endpoint, summary) -> System.out.printf(Locale.ROOT,
+                "%-46s %9d %7d %10.1f %9.2f %9.2f %9.2f %9.2f%n",
+                endpoint, summary.requests(), summary.errors(), summary.throughputPerSecond(),
+                summary.p50Millis(), summary.p90Millis(), summary.p99Millis(), summary.maxMillis()));
+    }
+
+    /**
+     * Writes the per-endpoint results as CSV, replacing the file of a previous run with the same label.
+     */
+    private static void writeReport(LoadTestSettings settings, Map<String, LatencyRecorder.EndpointSummary> summaries)
+            throws IOException {
+        List<String> lines = new ArrayList<>();
+        lines.add("label,endpoint,virtual_users,duration_s,requests,errors,throughput_per_s,p50_ms,p90_ms,p99_ms,max_ms");
+        summaries.forEach((endpoint, summary) -> lines.add(String.format(Locale.ROOT,
+                "%s,%s,%d,%d,%d,%d,%.1f,%.2f,%.2f,%.2f,%.2f",
+                settings.label(), endpoint, settings.virtualUsers(), settings.durationSeconds(),
+                summary.requests(), summary.errors(), summary.throughputPerSecond(),
+                summary.p50Millis(), summary.p90Millis(), summary.p99Millis(), summary.maxMillis())));
+
+        Path reportFile = Path.of(settings.reportFile()).toAbsolutePath();
+        Files.createDirectories(reportFile.getParent());
+        Files.write(reportFile, lines);
+        System.out.printf("Report written to %s%n", reportFile);
+    }
+
+    /**
+     * The seeded data the virtual users pick from; bank account names and numbers share their index.
+     */
+    record Workload(List<String> employeeIds, List<String> bankAccountNames, List<String> bankAccountNumbers,
+                    List<String> companyAccountNumbers) {
+    }
+}
@@ -0,0 +1,52 @@
+package com.salary.management.loadtest;
+
+/**
+ * Load benchmark settings, read from {@code loadtest.*} system properties.
+ *
+ * @param baseUrl           Base URL of the running application.
+ * @param label             Name of the run in the report, e.g. the execution mode under test.
+ * @param virtualUsers      Number of concurrent clients, each looping request after request.
+ * @param warmupSeconds     Duration of the unrecorded warm-up phase.
+ * @param durationSeconds   Duration of the recorded phase.
+ * @param employees         Number of employees (and their bank accounts) to seed.
+ * @param companyAccounts   Number of company accounts transfers and added funds are spread over.
+ * @param mix               Relative weights of the operations; defaults to employee reads with
+ *                          {@code loadtest.transfer-percent} salary transfers.
+ * @param reportFile        CSV file the per-endpoint results are written to.
+ */
+public record LoadTestSettings(String baseUrl,
+                               String label,
+                               int virtualUsers,
+                               int warmupSeconds,
+                               int durationSeconds,
+                               int employees,
+                               int companyAccounts,
+                               OperationMix mix,
+                               String reportFile) {
+
+    public static LoadTestSettings fromSystemProperties() {
+        return fromSystemProperties(System.getProperty("loadtest.base-url", "http://localhost:8080"),
+                OperationMix.lookupsAndTransfers(Integer.getInteger("loadtest.transfer-percent", 20)));
+    }
+
+    /**
+     * Reads the settings for a run whose base URL is only known at runtime.
+     *
+     * @param baseUrl    Base URL of the application under test.
+     * @param defaultMix Mix used when {@code loadtest.mix} is not set.
+     */
+    public static LoadTestSettings fromSystemProperties(String baseUrl, OperationMix defaultMix) {
+        String label = System.getProperty("loadtest.label", "unlabelled");
+        String mix = System.getProperty("loadtest.mix");
+        return new LoadTestSettings(
+                baseUrl,
+                label,
+                Integer.getInteger("loadtest.virtual-users", 1000),
+                Integer.getInteger("loadtest.warmup-seconds", 15),
+                Integer.getInteger("loadtest.duration-seconds", 60),
+                Integer.getInteger("loadtest.employees", 500),
+                Integer.getInteger("loadtest.company-accounts", 8),
+                mix != null ? OperationMix.parse(mix) : defaultMix,
+                System.getProperty("loadtest.report-file", "build/reports/loadtest/" + label + ".csv"));
+    }
+}
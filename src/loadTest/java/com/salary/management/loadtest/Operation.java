@@ -0,0 +1,44 @@
+package com.salary.management.loadtest;
+
+import java.util.Locale;
+
+/**
+ * The requests a virtual user can send, each reported as its own endpoint.
+ */
+public enum Operation {
+    EMPLOYEE_LOOKUP("GET /api/employees/{employeeId}"),
+    BANK_ACCOUNT_LOOKUP("POST /api/bank-accounts/search"),
+    EMPLOYEE_PAGE("GET /api/employees/all"),
+    BANK_ACCOUNT_PAGE("GET /api/bank-accounts"),
+    ADD_FUNDS("POST /api/company-accounts/add-funds"),
+    TRANSFER_SALARY("POST /api/company-accounts/transfer-salary");
+
+    private final String endpoint;
+
+    Operation(String endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    public String endpoint() {
+        return endpoint;
+    }
+
+    /**
+     * @return The name used in {@code loadtest.mix}, e.g. {@code transfer-salary}.
+     */
+    public String key() {
+        return name().toLowerCase(Locale.ROOT).replace('_', '-');
+    }
+
+    /**
+     * Resolves an operation from its {@link #key()}.
+     */
+    public static Operation fromKey(String key) {
+        for (Operation operation : values()) {
+            if (operation.key().equals(key.trim())) {
+                return operation;
+            }
+        }
+        throw new IllegalArgumentException("Unknown load test operation: " + key);
+    }
+}
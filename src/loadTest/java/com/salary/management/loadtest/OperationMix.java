@@ -0,0 +1,83 @@
+package com.salary.management.loadtest;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.StringJoiner;
+
+/**
+ * Relative weights of the operations in a workload, e.g.
+ * {@code employee-lookup=40,employee-page=10,add-funds=10,transfer-salary=40}.
+ * Virtual users pick every request independently according to these weights.
+ */
+public final class OperationMix {
+
+    private final Operation[] operations;
+    private final int[] cumulativeWeights;
+    private final int totalWeight;
+
+    private OperationMix(Map<Operation, Integer> weights) {
+        operations = new Operation[weights.size()];
+        cumulativeWeights = new int[weights.size()];
+        int total = 0;
+        int i = 0;
+        for (Map.Entry<Operation, Integer> entry : weights.entrySet()) {
+            if (entry.getValue() < 0) {
+                throw new IllegalArgumentException("Weight of " + entry.getKey().key() + " must not be negative");
+            }
+            total += entry.getValue();
+            operations[i] = entry.getKey();
+            cumulativeWeights[i++] = total;
+        }
+        if (total == 0) {
+            throw new IllegalArgumentException("The load test mix needs at least one operation with a positive weight");
+        }
+        this.totalWeight = total;
+    }
+
+    /**
+     * Parses a comma-separated list of {@code operation=weight} pairs.
+     */
+    public static OperationMix parse(String mix) {
+        Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+        for (String pair : mix.split(",")) {
+            String[] parts = pair.split("=");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Expected operation=weight in the load test mix, got: " + pair);
+            }
+            weights.put(Operation.fromKey(parts[0]), Integer.parseInt(parts[1].trim()));
+        }
+        return new OperationMix(weights);
+    }
+
+    /**
+     * The original two-endpoint workload: employee lookups and a share of salary transfers.
+     */
+    public static OperationMix lookupsAndTransfers(int transferPercent) {
+        Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+        weights.put(Operation.EMPLOYEE_LOOKUP, 100 - transferPercent);
+        weights.put(Operation.TRANSFER_SALARY, transferPercent);
+        return new OperationMix(weights);
+    }
+
+    public Operation pick(SplittableRandom random) {
+        int value = random.nextInt(totalWeight);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (value < cumulativeWeights[i]) {
+                return operations[i];
+            }
+        }
+        return operations[operations.length - 1];
+    }
+
+    @Override
+    public String toString() {
+        StringJoiner joiner = new StringJoiner(",");
+        int previous = 0;
+        for (int i = 0; i < operations.length; i++) {
+            joiner.add(operations[i].key() + "=" + (cumulativeWeights[i] - previous));
+            previous = cumulativeWeights[i];
+        }
+        return joiner.toString();
+    }
+}
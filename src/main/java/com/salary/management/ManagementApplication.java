@@ -2,8 +2,10 @@ package com.salary.management;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcTransactionManagerAutoConfiguration;
 
-@SpringBootApplication
+// The R2DBC path is read-only; without this its transaction manager would displace the JPA one
+@SpringBootApplication(exclude = R2dbcTransactionManagerAutoConfiguration.class)
 public class ManagementApplication {
 
 	public static void main(String[] args) {
@@ -0,0 +1,29 @@
+package com.salary.management.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.r2dbc.repository.config.EnableR2dbcRepositories;
+
+/**
+ * Runs the R2DBC read path next to JPA.
+ * Spring Boot skips its DataSource auto-configuration as soon as an R2DBC ConnectionFactory
+ * exists, so the JDBC DataSource used by JPA is declared here from the usual
+ * spring.datasource properties. R2DBC repositories are limited to their own package.
+ */
+@Configuration
+@EnableConfigurationProperties(DataSourceProperties.class)
+@EnableR2dbcRepositories(basePackages = "com.salary.management.repository.reactive")
+public class ReactiveReadConfig {
+
+    @Bean
+    @Primary
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource dataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+}
@@ -0,0 +1,33 @@
+package com.salary.management.config;
+
+import com.salary.management.monitoring.StatementBudgetInterceptor;
+import com.salary.management.monitoring.StatementCountInspector;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Registers the statement counter with Hibernate and the budget check with Spring MVC.
+ */
+@Configuration
+public class StatementBudgetConfig implements WebMvcConfigurer {
+
+    private final StatementBudgetInterceptor statementBudgetInterceptor;
+
+    public StatementBudgetConfig(StatementBudgetInterceptor statementBudgetInterceptor) {
+        this.statementBudgetInterceptor = statementBudgetInterceptor;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer statementCountCustomizer(StatementCountInspector statementCountInspector) {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, statementCountInspector);
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(statementBudgetInterceptor).addPathPatterns("/api/**");
+    }
+}
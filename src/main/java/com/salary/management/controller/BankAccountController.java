@@ -1,9 +1,16 @@
 package com.salary.management.controller;
 
+import com.salary.management.dto.BankAccount.BankAccountBatchGetRequestDTO;
+import com.salary.management.dto.BankAccount.BankAccountBulkRequestDTO;
+import com.salary.management.dto.BankAccount.BankAccountBulkResponseDTO;
 import com.salary.management.dto.BankAccount.BankAccountRequestDTO;
 import com.salary.management.dto.BankAccount.BankAccountResponseDTO;
 import com.salary.management.dto.BankAccount.BankAccountSearchRequestDTO;
 import com.salary.management.dto.BankAccount.BankAccountUpdateRequestDTO;
+import com.salary.management.monitoring.StatementBudget;
+import com.salary.management.response.ApiResponse;
+import com.salary.management.response.BatchGetResponse;
+import com.salary.management.response.CustomResponse;
 import com.salary.management.response.ResponseHandler;
 import com.salary.management.service.IBankAccountService;
 import jakarta.validation.Valid;
@@ -13,8 +20,6 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
-
 /**
  * Controller for managing bank accounts.
  */
@@ -35,13 +40,29 @@ public class BankAccountController {
      * @return ResponseEntity containing the created bank account.
      */
     @PostMapping
-    public ResponseEntity<Object> createBankAccount(
+    @StatementBudget(4)
+    public ResponseEntity<ApiResponse<BankAccountResponseDTO>> createBankAccount(
             @Valid @RequestBody BankAccountRequestDTO bankAccountRequestDto) {
-        LOGGER.info("Received request to create a bank account for: {}", bankAccountRequestDto.getAccountName());
+        LOGGER.debug("Received request to create a bank account for: {}", bankAccountRequestDto.getAccountName());
         BankAccountResponseDTO response = bankAccountService.createBankAccount(bankAccountRequestDto);
         return ResponseHandler.generateResponse("Create Account Successfully", HttpStatus.CREATED, response);
     }
 
+    /**
+     * Creates many bank accounts in one request.
+     *
+     * @param bulkRequestDto The accounts to create and the partial-failure mode.
+     * @return ResponseEntity containing the created account numbers in request order.
+     */
+    @PostMapping("/bulk")
+    @StatementBudget(40)
+    public ResponseEntity<ApiResponse<BankAccountBulkResponseDTO>> createBankAccounts(
+            @Valid @RequestBody BankAccountBulkRequestDTO bulkRequestDto) {
+        LOGGER.info("Received request to create {} bank accounts", bulkRequestDto.getAccounts().size());
+        BankAccountBulkResponseDTO response = bankAccountService.createBankAccounts(bulkRequestDto);
+        return ResponseHandler.generateResponse("Bulk account creation completed", HttpStatus.CREATED, response);
+    }
+
     /**
      * Retrieves a bank account based on account number and account name.
      *
@@ -49,22 +70,44 @@ public class BankAccountController {
      * @return ResponseEntity containing the matching bank account details.
      */
     @PostMapping("/search")
-    public ResponseEntity<Object> getBankAccountByDetails(
+    @StatementBudget(1)
+    public ResponseEntity<ApiResponse<BankAccountResponseDTO>> getBankAccountByDetails(
             @Valid @RequestBody BankAccountSearchRequestDTO searchRequestDto) {
-        LOGGER.info("Received request to search for bank account with account number: {}", searchRequestDto.getAccountNumber());
+        LOGGER.debug("Received request to search for bank account with account number: {}", searchRequestDto.getAccountNumber());
         BankAccountResponseDTO response = bankAccountService.getBankAccountByAccountDetails(searchRequestDto);
         return ResponseHandler.generateResponse("Fetch bank details Successfully", HttpStatus.OK, response);
     }
 
     /**
-     * Retrieves all bank accounts from the database.
+     * Retrieves many bank accounts by account number in one request.
+     *
+     * @param batchGetRequestDto The account numbers to look up.
+     * @return ResponseEntity containing the accounts keyed by account number and the numbers not found.
+     */
+    @PostMapping("/batch-get")
+    @StatementBudget(1)
+    public ResponseEntity<ApiResponse<BatchGetResponse<BankAccountResponseDTO>>> getBankAccountsByNumbers(
+            @Valid @RequestBody BankAccountBatchGetRequestDTO batchGetRequestDto) {
+        LOGGER.debug("Received request to fetch {} bank accounts", batchGetRequestDto.getAccountNumbers().size());
+        BatchGetResponse<BankAccountResponseDTO> response =
+                bankAccountService.getBankAccountsByNumbers(batchGetRequestDto.getAccountNumbers());
+        return ResponseHandler.generateResponse("Fetch bank details Successfully", HttpStatus.OK, response);
+    }
+
+    /**
+     * Retrieves one page of bank accounts using keyset pagination.
      *
-     * @return ResponseEntity containing a list of all bank accounts.
+     * @param cursor The nextCursor of the previous page; omit for the first page.
+     * @param size   The page size (optional, capped at the maximum page size).
+     * @return ResponseEntity containing the page of bank accounts.
      */
     @GetMapping
-    public ResponseEntity<Object> getAllBankAccounts() {
-        LOGGER.info("Received request to fetch all bank accounts.");
-        List<BankAccountResponseDTO> response = bankAccountService.getAllBankAccounts();
+    @StatementBudget(1)
+    public ResponseEntity<ApiResponse<CustomResponse<BankAccountResponseDTO>>> getAllBankAccounts(
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(required = false) Integer size) {
+        LOGGER.debug("Received request to fetch bank accounts after cursor: {}", cursor);
+        CustomResponse<BankAccountResponseDTO> response = bankAccountService.getAllBankAccounts(cursor, size);
         return ResponseHandler.generateResponse("Fetch all bank info Successfully", HttpStatus.OK, response);
     }
 
@@ -75,9 +118,10 @@ public class BankAccountController {
      * @return ResponseEntity containing the updated bank account.
      */
     @PutMapping
-    public ResponseEntity<Object> updateBankAccount(
+    @StatementBudget(3)
+    public ResponseEntity<ApiResponse<BankAccountResponseDTO>> updateBankAccount(
             @Valid @RequestBody BankAccountUpdateRequestDTO updateRequestDto) {
-        LOGGER.info("Received request to update bank account with account number: {}", updateRequestDto.getAccountNumber());
+        LOGGER.debug("Received request to update bank account with account number: {}", updateRequestDto.getAccountNumber());
         BankAccountResponseDTO response = bankAccountService.updateBankAccount(updateRequestDto);
         return ResponseHandler.generateResponse("Bank account updated successfully", HttpStatus.OK, response);
     }
@@ -1,9 +1,18 @@
 package com.salary.management.controller;
 
 import com.salary.management.dto.CompanyAccount.*;
+import com.salary.management.dto.Ledger.LedgerBalanceResponseDTO;
+import com.salary.management.dto.Salary.PayrollRunRequestDTO;
+import com.salary.management.dto.Salary.PayrollRunResponseDTO;
 import com.salary.management.dto.Salary.TransferRequestDTO;
+import com.salary.management.entity.LedgerAccountType;
+import com.salary.management.monitoring.StatementBudget;
+import com.salary.management.response.ApiResponse;
+import com.salary.management.response.CustomResponse;
 import com.salary.management.response.ResponseHandler;
 import com.salary.management.service.ICompanyAccountService;
+import com.salary.management.service.ILedgerService;
+import com.salary.management.service.IPayrollService;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -11,7 +20,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
+import static com.salary.management.utils.Constants.Payroll.IDEMPOTENCY_KEY_HEADER;
 
 /**
  * Controller for managing company bank accounts.
@@ -22,9 +31,15 @@ public class CompanyAccountController {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(CompanyAccountController.class);
     private final ICompanyAccountService companyAccountService;
+    private final IPayrollService payrollService;
+    private final ILedgerService ledgerService;
 
-    public CompanyAccountController(ICompanyAccountService companyAccountService) {
+    public CompanyAccountController(ICompanyAccountService companyAccountService,
+                                    IPayrollService payrollService,
+                                    ILedgerService ledgerService) {
         this.companyAccountService = companyAccountService;
+        this.payrollService = payrollService;
+        this.ledgerService = ledgerService;
     }
 
     /**
@@ -34,9 +49,10 @@ public class CompanyAccountController {
      * @return ResponseEntity containing the created company account.
      */
     @PostMapping
-    public ResponseEntity<Object> createCompanyAccount(
+    @StatementBudget(6)
+    public ResponseEntity<ApiResponse<CompanyAccountResponseDTO>> createCompanyAccount(
             @Valid @RequestBody CompanyAccountRequestDTO companyAccountRequestDto) {
-        LOGGER.info("Received request to create a company account for: {}", companyAccountRequestDto.getAccountName());
+        LOGGER.debug("Received request to create a company account for: {}", companyAccountRequestDto.getAccountName());
         CompanyAccountResponseDTO response = companyAccountService.createCompanyAccount(companyAccountRequestDto);
         return ResponseHandler.generateResponse("Company Account Created Successfully", HttpStatus.CREATED, response);
     }
@@ -48,22 +64,28 @@ public class CompanyAccountController {
      * @return ResponseEntity containing the matching company account details.
      */
     @PostMapping("/search")
-    public ResponseEntity<Object> getCompanyAccountByDetails(
+    @StatementBudget(1)
+    public ResponseEntity<ApiResponse<CompanyAccountResponseDTO>> getCompanyAccountByDetails(
             @Valid @RequestBody CompanyAccountSearchRequestDTO searchRequestDto) {
-        LOGGER.info("Received request to search for company account with account number: {}", searchRequestDto.getAccountNumber());
+        LOGGER.debug("Received request to search for company account with account number: {}", searchRequestDto.getAccountNumber());
         CompanyAccountResponseDTO response = companyAccountService.getCompanyAccountByDetails(searchRequestDto);
         return ResponseHandler.generateResponse("Fetch company account details successfully", HttpStatus.OK, response);
     }
 
     /**
-     * Retrieves all company accounts from the database.
+     * Retrieves one page of company accounts using keyset pagination.
      *
-     * @return ResponseEntity containing a list of all company accounts.
+     * @param cursor The nextCursor of the previous page; omit for the first page.
+     * @param size   The page size (optional, capped at the maximum page size).
+     * @return ResponseEntity containing the page of company accounts.
      */
     @GetMapping
-    public ResponseEntity<Object> getAllCompanyAccounts() {
-        LOGGER.info("Received request to fetch all company accounts.");
-        List<CompanyAccountResponseDTO> response = companyAccountService.getAllCompanyAccounts();
+    @StatementBudget(1)
+    public ResponseEntity<ApiResponse<CustomResponse<CompanyAccountResponseDTO>>> getAllCompanyAccounts(
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(required = false) Integer size) {
+        LOGGER.debug("Received request to fetch company accounts after cursor: {}", cursor);
+        CustomResponse<CompanyAccountResponseDTO> response = companyAccountService.getAllCompanyAccounts(cursor, size);
         return ResponseHandler.generateResponse("Fetch all company accounts successfully", HttpStatus.OK, response);
     }
 
@@ -74,9 +96,10 @@ public class CompanyAccountController {
      * @return ResponseEntity containing the updated company account.
      */
     @PutMapping
-    public ResponseEntity<Object> updateCompanyAccount(
+    @StatementBudget(3)
+    public ResponseEntity<ApiResponse<CompanyAccountResponseDTO>> updateCompanyAccount(
             @Valid @RequestBody CompanyAccountUpdateRequestDTO updateRequestDto) {
-        LOGGER.info("Received request to update company account with account number: {}", updateRequestDto.getAccountNumber());
+        LOGGER.debug("Received request to update company account with account number: {}", updateRequestDto.getAccountNumber());
         CompanyAccountResponseDTO response = companyAccountService.updateCompanyAccount(updateRequestDto);
         return ResponseHandler.generateResponse("Company account updated successfully", HttpStatus.OK, response);
     }
@@ -88,9 +111,10 @@ public class CompanyAccountController {
      * @return ResponseEntity indicating the result of the deletion.
      */
     @DeleteMapping("/delete")
-    public ResponseEntity<Object> deleteCompanyAccount(
+    @StatementBudget(3)
+    public ResponseEntity<ApiResponse<Void>> deleteCompanyAccount(
             @Valid @RequestBody CompanyAccountSearchRequestDTO searchRequestDto) {
-        LOGGER.info("Received request to delete company account with account number: {}", searchRequestDto.getAccountNumber());
+        LOGGER.debug("Received request to delete company account with account number: {}", searchRequestDto.getAccountNumber());
         companyAccountService.deleteCompanyAccount(searchRequestDto);
         return ResponseHandler.generateResponse("Company account deleted successfully", HttpStatus.OK);
     }
@@ -102,9 +126,10 @@ public class CompanyAccountController {
      * @return ResponseEntity indicating the result of the operation.
      */
     @PostMapping("/add-funds")
-    public ResponseEntity<Object> addFundsToCompanyAccount(
+    @StatementBudget(6)
+    public ResponseEntity<ApiResponse<Void>> addFundsToCompanyAccount(
             @Valid @RequestBody CompanyAccountAddFundsRequestDTO addFundsRequestDto) {
-        LOGGER.info("Received request to add funds to company account with account number: {}", addFundsRequestDto.getAccountNumber());
+        LOGGER.debug("Received request to add funds to company account with account number: {}", addFundsRequestDto.getAccountNumber());
         boolean success = companyAccountService.addFundsToCompanyAccount(addFundsRequestDto);
         if (success) {
             return ResponseHandler.generateResponse("Funds added successfully", HttpStatus.OK);
@@ -120,10 +145,43 @@ public class CompanyAccountController {
      * @return Response entity indicating the success of the operation
      */
     @PostMapping("/transfer-salary")
-    public ResponseEntity<Object> transferSalary(@Valid @RequestBody TransferRequestDTO transferRequest) {
-        LOGGER.info("Received request to transfer salary from company account {} to employee ID {}",
+    @StatementBudget(6)
+    public ResponseEntity<ApiResponse<Void>> transferSalary(@Valid @RequestBody TransferRequestDTO transferRequest) {
+        LOGGER.debug("Received request to transfer salary from company account {} to employee ID {}",
                 transferRequest.getCompanyAccountNumber(), transferRequest.getEmployeeId());
         companyAccountService.transferSalary(transferRequest);
         return ResponseHandler.generateResponse("Transfer completed successfully.", HttpStatus.OK);
     }
+
+    /**
+     * Endpoint to pay salaries to all (or a filtered set of) employees from a company account.
+     *
+     * @param accountNumber  The company account number to pay from
+     * @param idempotencyKey Client-chosen key; a second run with the same key is rejected
+     * @param request        Optional DTO with employee IDs to pay and the chunk size
+     * @return Response entity containing the per-employee payment summary
+     */
+    @PostMapping("/{accountNumber}/payroll-runs")
+    public ResponseEntity<ApiResponse<PayrollRunResponseDTO>> runPayroll(
+            @PathVariable String accountNumber,
+            @RequestHeader(IDEMPOTENCY_KEY_HEADER) String idempotencyKey,
+            @Valid @RequestBody(required = false) PayrollRunRequestDTO request) {
+        LOGGER.info("Received request to run payroll {} from company account {}", idempotencyKey, accountNumber);
+        PayrollRunResponseDTO response = payrollService.runPayroll(accountNumber, idempotencyKey, request);
+        return ResponseHandler.generateResponse("Payroll run completed.", HttpStatus.OK, response);
+    }
+
+    /**
+     * Endpoint to read the ledger balance of a company account.
+     *
+     * @param accountNumber The company account number
+     * @return Response entity containing the balance derived from the ledger
+     */
+    @GetMapping("/{accountNumber}/ledger-balance")
+    @StatementBudget(1)
+    public ResponseEntity<ApiResponse<LedgerBalanceResponseDTO>> getLedgerBalance(@PathVariable String accountNumber) {
+        LOGGER.debug("Received request to fetch ledger balance of company account {}", accountNumber);
+        LedgerBalanceResponseDTO response = ledgerService.getBalance(LedgerAccountType.COMPANY, accountNumber);
+        return ResponseHandler.generateResponse("Fetch ledger balance successfully", HttpStatus.OK, response);
+    }
 }
@@ -1,19 +1,28 @@
 package com.salary.management.controller;
 
+import com.salary.management.dto.Employee.EmployeeBatchGetRequestDTO;
 import com.salary.management.dto.Employee.EmployeeRequestDTO;
 import com.salary.management.dto.Employee.EmployeeResponseDTO;
 import com.salary.management.dto.Employee.EmployeeUpdateRequestDTO;
+import com.salary.management.logic.EmployeeImportReader;
+import com.salary.management.monitoring.StatementBudget;
+import com.salary.management.response.ApiResponse;
+import com.salary.management.response.BatchGetResponse;
+import com.salary.management.response.CustomResponse;
 import com.salary.management.response.ResponseHandler;
+import com.salary.management.service.IEmployeeImportService;
 import com.salary.management.service.IEmployeeService;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
-import java.util.List;
 
 /**
  * Controller for managing employee operations.
@@ -24,14 +33,18 @@ public class EmployeeController {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(EmployeeController.class);
     private final IEmployeeService employeeService;
+    private final IEmployeeImportService employeeImportService;
 
     /**
-     * Constructs the EmployeeController with the required service.
+     * Constructs the EmployeeController with the required services.
      *
-     * @param employeeService the employee service
+     * @param employeeService       the employee service
+     * @param employeeImportService the bulk employee import service
      */
-    public EmployeeController(IEmployeeService employeeService) {
+    public EmployeeController(IEmployeeService employeeService,
+                              IEmployeeImportService employeeImportService) {
         this.employeeService = employeeService;
+        this.employeeImportService = employeeImportService;
     }
 
     /**
@@ -41,17 +54,38 @@ public class EmployeeController {
      * @return ResponseEntity containing the created employee's details
      */
     @PostMapping("/create")
-    public ResponseEntity<Object> createEmployee(
+    @StatementBudget(8)
+    public ResponseEntity<ApiResponse<EmployeeResponseDTO>> createEmployee(
             @Valid @RequestBody EmployeeRequestDTO requestDTO) {
 
-        LOGGER.info("Received request to create employee: {}", requestDTO);
+        LOGGER.debug("Received request to create employee for bank account: {}", requestDTO.getAccountNumber());
 
         EmployeeResponseDTO responseDTO = employeeService.createEmployee(requestDTO);
-        LOGGER.info("Employee created successfully with ID: {}", responseDTO.getEmployeeId());
+        LOGGER.debug("Employee created successfully with ID: {}", responseDTO.getEmployeeId());
 
         return ResponseHandler.generateResponse("Employee created successfully", HttpStatus.CREATED, responseDTO);
     }
 
+    /**
+     * Endpoint to import employees in bulk from a CSV (with a header row) or NDJSON body.
+     * The body is read row by row and one NDJSON result per row is streamed back.
+     *
+     * @param request the HTTP request carrying the import body
+     * @return ResponseEntity streaming the per-row import results
+     */
+    @PostMapping(value = "/import", consumes = {"text/csv", MediaType.APPLICATION_NDJSON_VALUE},
+            produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> importEmployees(HttpServletRequest request) {
+        EmployeeImportReader.Format format = MediaType.parseMediaType(request.getContentType())
+                .isCompatibleWith(MediaType.APPLICATION_NDJSON)
+                ? EmployeeImportReader.Format.NDJSON : EmployeeImportReader.Format.CSV;
+        LOGGER.info("Received request to import employees from {}", format);
+
+        StreamingResponseBody body = output ->
+                employeeImportService.importEmployees(request.getInputStream(), format, output);
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
     /**
      * Endpoint to retrieve an employee by their ID.
      *
@@ -59,26 +93,47 @@ public class EmployeeController {
      * @return ResponseEntity containing the employee's details
      */
     @GetMapping("/{employeeId}")
-    public ResponseEntity<Object> getEmployeeById(@PathVariable String employeeId) {
-        LOGGER.info("Received request to get employee by ID: {}", employeeId);
+    @StatementBudget(2)
+    public ResponseEntity<ApiResponse<EmployeeResponseDTO>> getEmployeeById(@PathVariable String employeeId) {
+        LOGGER.debug("Received request to get employee by ID: {}", employeeId);
 
         EmployeeResponseDTO responseDTO = employeeService.getEmployeeById(employeeId);
-        LOGGER.info("Employee retrieved: {}", responseDTO);
-
         return ResponseHandler.generateResponse("Employee retrieved successfully", HttpStatus.OK, responseDTO);
     }
 
     /**
-     * Endpoint to retrieve all employees.
+     * Endpoint to retrieve many employees by their IDs in one request.
+     *
+     * @param requestDTO the employee IDs to look up
+     * @return ResponseEntity containing the employees keyed by ID and the IDs not found
+     */
+    @PostMapping("/batch-get")
+    @StatementBudget(2)
+    public ResponseEntity<ApiResponse<BatchGetResponse<EmployeeResponseDTO>>> getEmployeesByIds(@Valid @RequestBody EmployeeBatchGetRequestDTO requestDTO) {
+        LOGGER.debug("Received request to get {} employees by ID", requestDTO.getEmployeeIds().size());
+
+        BatchGetResponse<EmployeeResponseDTO> employees = employeeService.getEmployeesByIds(requestDTO.getEmployeeIds());
+
+        return ResponseHandler.generateResponse("Employees retrieved successfully", HttpStatus.OK, employees);
+    }
+
+    /**
+     * Endpoint to retrieve one page of employees using keyset pagination.
      *
-     * @return ResponseEntity containing all employees' details
+     * @param cursor the nextCursor of the previous page; omit for the first page
+     * @param size   the page size (optional, capped at the maximum page size)
+     * @return ResponseEntity containing the page of employees' details
      */
     @GetMapping("/all")
-    public ResponseEntity<Object> getAllEmployees() {
-        LOGGER.info("Received request to retrieve all employees.");
+    @StatementBudget(2)
+    public ResponseEntity<ApiResponse<CustomResponse<EmployeeResponseDTO>>> getAllEmployees(
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(required = false) Integer size) {
+        LOGGER.debug("Received request to retrieve employees after cursor: {}", cursor);
 
-        List<EmployeeResponseDTO> employees = employeeService.getAllEmployees();
-        LOGGER.info("All employees retrieved successfully: {}", employees);
+        CustomResponse<EmployeeResponseDTO> employees = employeeService.getAllEmployees(cursor, size);
+        LOGGER.debug("Employees retrieved successfully. Page size: {}, has next: {}",
+                employees.getContent().size(), employees.getPagination().isHasNext());
 
         return ResponseHandler.generateResponse("Employees retrieved successfully", HttpStatus.OK, employees);
     }
@@ -90,11 +145,12 @@ public class EmployeeController {
      * @return ResponseEntity with a success message
      */
     @DeleteMapping("/{employeeId}")
-    public ResponseEntity<Object> deleteEmployeeById(@PathVariable String employeeId) {
-        LOGGER.info("Received request to delete employee with ID: {}", employeeId);
+    @StatementBudget(4)
+    public ResponseEntity<ApiResponse<Void>> deleteEmployeeById(@PathVariable String employeeId) {
+        LOGGER.debug("Received request to delete employee with ID: {}", employeeId);
 
         employeeService.deleteEmployeeById(employeeId);
-        LOGGER.info("Employee deleted successfully with ID: {}", employeeId);
+        LOGGER.debug("Employee deleted successfully with ID: {}", employeeId);
 
         return ResponseHandler.generateResponse("Employee deleted successfully", HttpStatus.OK);
     }
@@ -107,14 +163,15 @@ public class EmployeeController {
      * @return ResponseEntity with the updated employee's details
      */
     @PutMapping("/{employeeId}")
-    public ResponseEntity<Object> updateEmployeeById(
+    @StatementBudget(5)
+    public ResponseEntity<ApiResponse<EmployeeResponseDTO>> updateEmployeeById(
             @PathVariable String employeeId,
             @Valid @RequestBody EmployeeUpdateRequestDTO requestDTO) {
 
-        LOGGER.info("Received request to update employee with ID: {}", employeeId);
+        LOGGER.debug("Received request to update employee with ID: {}", employeeId);
 
         EmployeeResponseDTO responseDTO = employeeService.updateEmployeeById(employeeId, requestDTO);
-        LOGGER.info("Employee updated successfully with ID: {}", employeeId);
+        LOGGER.debug("Employee updated successfully with ID: {}", employeeId);
 
         return ResponseHandler.generateResponse("Employee updated successfully", HttpStatus.OK, responseDTO);
     }
@@ -0,0 +1,110 @@
+package com.salary.management.controller;
+
+import com.salary.management.dto.BankAccount.BankAccountResponseDTO;
+import com.salary.management.dto.BankAccount.BankAccountSearchRequestDTO;
+import com.salary.management.dto.CompanyAccount.CompanyAccountResponseDTO;
+import com.salary.management.dto.CompanyAccount.CompanyAccountSearchRequestDTO;
+import com.salary.management.dto.Employee.EmployeeResponseDTO;
+import com.salary.management.response.ApiResponse;
+import com.salary.management.response.ResponseHandler;
+import com.salary.management.service.IReactiveQueryService;
+import jakarta.validation.Valid;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Controller for the non-blocking, read-only variants of the employee and account lookups.
+ * Single lookups return the usual response envelope; list endpoints stream NDJSON, one item
+ * per line, and only read further rows from the database as the client consumes them.
+ */
+@RestController
+@RequestMapping("/api/reactive")
+public class ReactiveQueryController {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ReactiveQueryController.class);
+    private final IReactiveQueryService reactiveQueryService;
+
+    public ReactiveQueryController(IReactiveQueryService reactiveQueryService) {
+        this.reactiveQueryService = reactiveQueryService;
+    }
+
+    /**
+     * Retrieves an employee by their ID.
+     *
+     * @param employeeId the unique ID of the employee
+     * @return Mono of the ResponseEntity containing the employee's details
+     */
+    @GetMapping("/employees/{employeeId}")
+    public Mono<ResponseEntity<ApiResponse<EmployeeResponseDTO>>> getEmployeeById(@PathVariable String employeeId) {
+        LOGGER.debug("Received reactive request to get employee by ID: {}", employeeId);
+        return reactiveQueryService.getEmployeeById(employeeId)
+                .map(employee -> ResponseHandler.generateResponse("Employee retrieved successfully", HttpStatus.OK, employee));
+    }
+
+    /**
+     * Streams employees in primary key order.
+     *
+     * @param cursor only employees after this position are streamed (optional)
+     * @return Flux of employees, written as NDJSON
+     */
+    @GetMapping(value = "/employees", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<EmployeeResponseDTO> streamEmployees(@RequestParam(required = false) Long cursor) {
+        return reactiveQueryService.streamEmployees(cursor);
+    }
+
+    /**
+     * Retrieves a bank account based on account number and account name.
+     *
+     * @param searchRequestDto the search criteria
+     * @return Mono of the ResponseEntity containing the bank account details
+     */
+    @PostMapping("/bank-accounts/search")
+    public Mono<ResponseEntity<ApiResponse<BankAccountResponseDTO>>> getBankAccountByDetails(
+            @Valid @RequestBody BankAccountSearchRequestDTO searchRequestDto) {
+        LOGGER.debug("Received reactive request to search for bank account with account number: {}", searchRequestDto.getAccountNumber());
+        return reactiveQueryService.getBankAccountByAccountDetails(searchRequestDto)
+                .map(account -> ResponseHandler.generateResponse("Fetch bank details Successfully", HttpStatus.OK, account));
+    }
+
+    /**
+     * Streams bank accounts in primary key order.
+     *
+     * @param cursor only accounts after this position are streamed (optional)
+     * @return Flux of bank accounts, written as NDJSON
+     */
+    @GetMapping(value = "/bank-accounts", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<BankAccountResponseDTO> streamBankAccounts(@RequestParam(required = false) Long cursor) {
+        return reactiveQueryService.streamBankAccounts(cursor);
+    }
+
+    /**
+     * Retrieves a company account based on account number and account name.
+     *
+     * @param searchRequestDto the search criteria
+     * @return Mono of the ResponseEntity containing the company account details
+     */
+    @PostMapping("/company-accounts/search")
+    public Mono<ResponseEntity<ApiResponse<CompanyAccountResponseDTO>>> getCompanyAccountByDetails(
+            @Valid @RequestBody CompanyAccountSearchRequestDTO searchRequestDto) {
+        LOGGER.debug("Received reactive request to search for company account with account number: {}", searchRequestDto.getAccountNumber());
+        return reactiveQueryService.getCompanyAccountByDetails(searchRequestDto)
+                .map(account -> ResponseHandler.generateResponse("Fetch company account details successfully", HttpStatus.OK, account));
+    }
+
+    /**
+     * Streams company accounts in primary key order.
+     *
+     * @param cursor only accounts after this position are streamed (optional)
+     * @return Flux of company accounts, written as NDJSON
+     */
+    @GetMapping(value = "/company-accounts", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<CompanyAccountResponseDTO> streamCompanyAccounts(@RequestParam(required = false) Long cursor) {
+        return reactiveQueryService.streamCompanyAccounts(cursor);
+    }
+}
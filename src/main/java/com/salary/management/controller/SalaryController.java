@@ -4,6 +4,8 @@ import com.salary.management.dto.Salary.BaseSalaryRequestDTO;
 import com.salary.management.dto.Salary.BaseSalaryResponseDTO;
 import com.salary.management.dto.Salary.SalaryCalculationRequestDTO;
 import com.salary.management.dto.Salary.SalaryResponseDTO;
+import com.salary.management.monitoring.StatementBudget;
+import com.salary.management.response.ApiResponse;
 import com.salary.management.response.ResponseHandler;
 import com.salary.management.service.IBaseSalaryService;
 import org.slf4j.Logger;
@@ -34,11 +36,12 @@ public class SalaryController {
      * @return ResponseEntity containing the saved base salary details.
      */
     @PostMapping("/setBaseSalary")
-    public ResponseEntity<Object> setBaseSalary(
+    @StatementBudget(3)
+    public ResponseEntity<ApiResponse<BaseSalaryRequestDTO>> setBaseSalary(
             @Valid @RequestBody BaseSalaryRequestDTO requestDTO) {
 
         BaseSalaryResponseDTO responseDTO = baseSalaryService.setBaseSalary(requestDTO);
-        LOGGER.info("Base salary set successfully: {}", responseDTO);
+        LOGGER.info("Base salary set successfully with amount: {}", responseDTO.getAmount());
 
         return ResponseHandler.generateResponse("Set base salary Successfully", HttpStatus.OK, requestDTO);
     }
@@ -49,11 +52,12 @@ public class SalaryController {
      * @return ResponseEntity containing the base salary details.
      */
     @GetMapping("/getBaseSalary")
-    public ResponseEntity<Object> getBaseSalary() {
-        LOGGER.info("Received request to fetch base salary for the lowest grade.");
+    @StatementBudget(2)
+    public ResponseEntity<ApiResponse<BaseSalaryResponseDTO>> getBaseSalary() {
+        LOGGER.debug("Received request to fetch base salary for the lowest grade.");
 
         BaseSalaryResponseDTO responseDTO = baseSalaryService.getBaseSalary();
-        LOGGER.info("Base salary retrieved successfully: {}", responseDTO);
+        LOGGER.debug("Base salary retrieved successfully with amount: {}", responseDTO.getAmount());
 
         return ResponseHandler.generateResponse("Fetch base salary Successfully", HttpStatus.CREATED, responseDTO);
     }
@@ -65,12 +69,13 @@ public class SalaryController {
      * @return ResponseEntity containing the calculated salary breakdown.
      */
     @PostMapping("/calculateSalary")
-    public ResponseEntity<Object> calculateSalaryForGrade(
+    @StatementBudget(2)
+    public ResponseEntity<ApiResponse<SalaryResponseDTO>> calculateSalaryForGrade(
             @Valid @RequestBody SalaryCalculationRequestDTO requestDTO) {
-        LOGGER.info("Received request to calculate salary for grade: {}", requestDTO.getGrade());
+        LOGGER.debug("Received request to calculate salary for grade: {}", requestDTO.getGrade());
 
         SalaryResponseDTO responseDTO = baseSalaryService.calculateSalaryForGrade(requestDTO);
-        LOGGER.info("Salary calculation completed for grade {}: {}", requestDTO.getGrade(), responseDTO);
+        LOGGER.debug("Salary calculation completed for grade {}", requestDTO.getGrade());
 
         return ResponseHandler.generateResponse("Received request to calculate salary for grade",HttpStatus.OK, responseDTO);
     }
@@ -0,0 +1,23 @@
+package com.salary.management.dto.BankAccount;
+
+import com.salary.management.validation.ValidAccountNumber;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+import static com.salary.management.utils.Constants.Pagination.MAX_BATCH_GET_SIZE;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class BankAccountBatchGetRequestDTO {
+    @NotEmpty(message = "At least one account number is required")
+    @Size(max = MAX_BATCH_GET_SIZE, message = "At most 500 account numbers can be looked up at once")
+    private List<@ValidAccountNumber String> accountNumbers;
+}
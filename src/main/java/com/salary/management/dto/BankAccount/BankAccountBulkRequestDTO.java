@@ -0,0 +1,33 @@
+package com.salary.management.dto.BankAccount;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+import static com.salary.management.utils.Constants.BankAccount.MAX_BULK_SIZE;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class BankAccountBulkRequestDTO {
+    // Optional; defaults to the configured bank-account.bulk.default-mode
+    private BulkMode mode;
+
+    // Items are validated one by one, so BEST_EFFORT can report invalid items instead of rejecting the request
+    @NotEmpty(message = "At least one account is required")
+    @Size(max = MAX_BULK_SIZE, message = "At most 1000 accounts can be created at once")
+    private List<BankAccountRequestDTO> accounts;
+
+    public enum BulkMode {
+        // Any invalid item rejects the whole request and nothing is created
+        ALL_OR_NOTHING,
+        // Valid items are created, invalid items are reported as failed
+        BEST_EFFORT
+    }
+}
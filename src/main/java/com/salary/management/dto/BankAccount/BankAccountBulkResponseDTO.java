@@ -0,0 +1,37 @@
+package com.salary.management.dto.BankAccount;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class BankAccountBulkResponseDTO {
+    private BankAccountBulkRequestDTO.BulkMode mode;
+    private int createdCount;
+    private int failedCount;
+    // One result per requested account, in request order
+    private List<AccountResult> results = new ArrayList<>();
+
+    public enum ResultStatus {
+        CREATED,
+        FAILED
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class AccountResult {
+        private int index;
+        private ResultStatus status;
+        private String accountNumber;
+        private String message;
+    }
+}
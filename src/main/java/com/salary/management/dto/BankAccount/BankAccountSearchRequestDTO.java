@@ -1,4 +1,5 @@
 package com.salary.management.dto.BankAccount;
+import com.salary.management.validation.ValidAccountNumber;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
@@ -14,6 +15,7 @@ public class BankAccountSearchRequestDTO {
 
     @NotBlank(message = "Account number is required")
     @Size(max = 20, message = "Account number must not exceed 20 characters")
+    @ValidAccountNumber
     private String accountNumber;
 
     @NotBlank(message = "Account name is required")
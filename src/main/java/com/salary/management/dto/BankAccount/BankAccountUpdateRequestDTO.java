@@ -1,5 +1,6 @@
 package com.salary.management.dto.BankAccount;
 
+import com.salary.management.validation.ValidAccountNumber;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
@@ -14,6 +15,7 @@ import lombok.Setter;
 public class BankAccountUpdateRequestDTO {
     @NotBlank(message = "Account number is required")
     @Size(min = 10, max = 20, message = "Account number must not exceed 20 characters")
+    @ValidAccountNumber
     private String accountNumber;
 
     @NotBlank(message = "Account name is required")
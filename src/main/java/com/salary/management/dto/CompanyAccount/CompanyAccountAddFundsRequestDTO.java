@@ -1,5 +1,6 @@
 package com.salary.management.dto.CompanyAccount;
 
+import com.salary.management.validation.ValidAccountNumber;
 import jakarta.validation.constraints.*;
 
 import lombok.AllArgsConstructor;
@@ -15,6 +16,7 @@ import java.math.BigDecimal;
 @NoArgsConstructor
 public class CompanyAccountAddFundsRequestDTO {
     @NotBlank(message = "Account number is required")
+    @ValidAccountNumber
     private String accountNumber;
 
     @NotNull(message = "Amount balance is required")
@@ -1,5 +1,6 @@
 package com.salary.management.dto.CompanyAccount;
 
+import com.salary.management.validation.ValidAccountNumber;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
@@ -13,6 +14,7 @@ import lombok.Setter;
 public class CompanyAccountUpdateRequestDTO {
     @NotBlank(message = "Account number is required")
     @Size(min = 10, max = 20, message = "Account number must be between 10 and 18 digits")
+    @ValidAccountNumber
     private String accountNumber;
 
     @NotBlank(message = "Account name is required")
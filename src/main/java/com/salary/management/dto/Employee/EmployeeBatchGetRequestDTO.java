@@ -0,0 +1,22 @@
+package com.salary.management.dto.Employee;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+import static com.salary.management.utils.Constants.Pagination.MAX_BATCH_GET_SIZE;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeeBatchGetRequestDTO {
+    @NotEmpty(message = "At least one employee ID is required")
+    @Size(max = MAX_BATCH_GET_SIZE, message = "At most 500 employee IDs can be looked up at once")
+    private List<String> employeeIds;
+}
@@ -0,0 +1,23 @@
+package com.salary.management.dto.Employee;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class EmployeeImportResultDTO {
+    // Line of the import body the result belongs to
+    private int rowNumber;
+    private ImportStatus status;
+    private String employeeId;
+    private String message;
+
+    public enum ImportStatus {
+        CREATED,
+        FAILED
+    }
+}
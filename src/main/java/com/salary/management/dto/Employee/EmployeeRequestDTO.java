@@ -1,5 +1,6 @@
 package com.salary.management.dto.Employee;
 
+import com.salary.management.validation.ValidAccountNumber;
 import jakarta.validation.constraints.*;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -30,5 +31,6 @@ public class EmployeeRequestDTO {
     private String accountName;
 
     @NotBlank(message = "Account number is required")
+    @ValidAccountNumber
     private String accountNumber;
 }
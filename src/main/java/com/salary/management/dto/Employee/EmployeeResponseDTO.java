@@ -39,9 +39,9 @@ public class EmployeeResponseDTO {
     @Getter
     @Setter
     public static class SalaryComponents {
-        private double basicSalary;
-        private double houseRent;
-        private double medicalAllowance;
-        private double totalSalary;
+        private BigDecimal basicSalary;
+        private BigDecimal houseRent;
+        private BigDecimal medicalAllowance;
+        private BigDecimal totalSalary;
     }
 }
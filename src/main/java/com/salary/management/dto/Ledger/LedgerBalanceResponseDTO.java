@@ -0,0 +1,19 @@
+package com.salary.management.dto.Ledger;
+
+import com.salary.management.entity.LedgerAccountType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class LedgerBalanceResponseDTO {
+    private LedgerAccountType accountType;
+    private String accountNumber;
+    private BigDecimal balance;
+}
@@ -0,0 +1,22 @@
+package com.salary.management.dto.Ledger;
+
+import com.salary.management.entity.LedgerAccountType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class LedgerTransferDTO {
+    private LedgerAccountType debitAccountType;
+    private String debitAccountNumber;
+    private LedgerAccountType creditAccountType;
+    private String creditAccountNumber;
+    private BigDecimal amount;
+    private String reference;
+}
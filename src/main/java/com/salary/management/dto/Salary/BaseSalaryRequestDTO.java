@@ -1,14 +1,18 @@
 package com.salary.management.dto.Salary;
 
+import jakarta.validation.constraints.Digits;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
 import lombok.Getter;
 import lombok.Setter;
 
+import java.math.BigDecimal;
+
 @Getter
 @Setter
 public class BaseSalaryRequestDTO {
     @NotNull(message = "Base salary amount is required")
     @Positive(message = "Base salary must be a positive value")
-    private Double amount;
+    @Digits(integer = 13, fraction = 2, message = "Base salary must have at most 13 digits and 2 decimal places")
+    private BigDecimal amount;
 }
@@ -2,9 +2,11 @@ package com.salary.management.dto.Salary;
 import lombok.Getter;
 import lombok.Setter;
 
+import java.math.BigDecimal;
+
 @Getter
 @Setter
 public class BaseSalaryResponseDTO {
     private String description;
-    private Double amount;
+    private BigDecimal amount;
 }
\ No newline at end of file
@@ -0,0 +1,26 @@
+package com.salary.management.dto.Salary;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class PayrollRunRequestDTO {
+    // Optional filter; when empty every employee is paid
+    @Size(max = 10000, message = "A payroll run can target at most 10000 employees")
+    private List<@NotBlank(message = "Employee ID must not be blank") String> employeeIds;
+
+    @Min(value = 1, message = "Chunk size must be between 1 and 1000")
+    @Max(value = 1000, message = "Chunk size must be between 1 and 1000")
+    private Integer chunkSize;
+}
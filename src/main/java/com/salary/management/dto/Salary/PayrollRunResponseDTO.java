@@ -0,0 +1,40 @@
+package com.salary.management.dto.Salary;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class PayrollRunResponseDTO {
+    private String companyAccountNumber;
+    private int totalEmployees;
+    private int paidCount;
+    private int failedCount;
+    private BigDecimal totalPaid = BigDecimal.ZERO;
+
+    // Per-employee outcome, in payment order
+    private List<EmployeePayment> payments = new ArrayList<>();
+
+    public enum PaymentStatus {
+        PAID,
+        FAILED
+    }
+
+    @Getter
+    @Setter
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class EmployeePayment {
+        private String employeeId;
+        private PaymentStatus status;
+        private BigDecimal amount;
+        private String message;
+    }
+}
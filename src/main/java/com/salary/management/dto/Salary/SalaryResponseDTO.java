@@ -3,12 +3,14 @@ package com.salary.management.dto.Salary;
 import lombok.Getter;
 import lombok.Setter;
 
+import java.math.BigDecimal;
+
 @Getter
 @Setter
 public class SalaryResponseDTO {
     private Integer grade;
-    private Double basicSalary;
-    private Double houseRent;
-    private Double medicalAllowance;
-    private Double totalSalary;
+    private BigDecimal basicSalary;
+    private BigDecimal houseRent;
+    private BigDecimal medicalAllowance;
+    private BigDecimal totalSalary;
 }
@@ -1,5 +1,6 @@
 package com.salary.management.dto.Salary;
 
+import com.salary.management.validation.ValidAccountNumber;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -12,6 +13,7 @@ import jakarta.validation.constraints.NotBlank;
 @NoArgsConstructor
 public class TransferRequestDTO {
     @NotBlank(message = "Company account number is required")
+    @ValidAccountNumber
     private String companyAccountNumber;
 
     @NotBlank(message = "Employee ID is required")
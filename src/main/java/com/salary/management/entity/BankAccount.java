@@ -4,6 +4,8 @@ import jakarta.persistence.*;
 import jakarta.validation.constraints.*;
 import lombok.*;
 
+import static com.salary.management.utils.Constants.Persistence.ID_ALLOCATION_SIZE;
+
 @Getter
 @Setter
 @AllArgsConstructor
@@ -12,7 +14,8 @@ import lombok.*;
 @Table(name = "bank_accounts")
 public class BankAccount extends BaseAccount{
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "bank_accounts_seq")
+    @SequenceGenerator(name = "bank_accounts_seq", sequenceName = "bank_accounts_seq", allocationSize = ID_ALLOCATION_SIZE)
     private Long id;
 
     @NotNull(message = "Account type is required")
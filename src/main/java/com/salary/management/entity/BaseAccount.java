@@ -3,6 +3,8 @@ package com.salary.management.entity;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
+
 import java.math.BigDecimal;
 
 @MappedSuperclass
@@ -14,6 +16,7 @@ public abstract class BaseAccount {
 
     @NotBlank(message = "Account number is required")
     @Size(min = 10, max = 18, message = "Account number must be between 10 and 18 digits")
+    @Column(nullable = false, unique = true, length = 18)
     private String accountNumber;
 
     @NotNull(message = "Current balance is required")
@@ -26,4 +29,10 @@ public abstract class BaseAccount {
 
     @NotBlank(message = "Branch name is required")
     private String branchName;
+
+    // Optimistic locking version; defaults to 0 for rows created before the column existed
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private long version;
 }
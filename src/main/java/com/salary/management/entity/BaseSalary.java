@@ -4,6 +4,10 @@ import jakarta.persistence.*;
 import jakarta.validation.constraints.*;
 import lombok.*;
 
+import java.math.BigDecimal;
+
+import static com.salary.management.utils.Constants.Persistence.ID_ALLOCATION_SIZE;
+
 @Getter
 @Setter
 @AllArgsConstructor
@@ -12,7 +16,8 @@ import lombok.*;
 @Table(name = "base_salaries")
 public class BaseSalary {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "base_salaries_seq")
+    @SequenceGenerator(name = "base_salaries_seq", sequenceName = "base_salaries_seq", allocationSize = ID_ALLOCATION_SIZE)
     private Long id;
 
     @Column(nullable = false, unique = true)
@@ -20,5 +25,6 @@ public class BaseSalary {
 
     @NotNull(message = "Base salary amount is required")
     @Positive(message = "Base salary must be a positive value")
-    private Double amount;
+    @Column(precision = 15, scale = 2)
+    private BigDecimal amount;
 }
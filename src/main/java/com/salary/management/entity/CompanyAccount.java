@@ -6,6 +6,8 @@ import lombok.*;
 
 import java.math.BigDecimal;
 
+import static com.salary.management.utils.Constants.Persistence.ID_ALLOCATION_SIZE;
+
 @Getter
 @Setter
 @AllArgsConstructor
@@ -14,7 +16,8 @@ import java.math.BigDecimal;
 @Table(name = "company_accounts")
 public class CompanyAccount extends BaseAccount{
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "company_accounts_seq")
+    @SequenceGenerator(name = "company_accounts_seq", sequenceName = "company_accounts_seq", allocationSize = ID_ALLOCATION_SIZE)
     private Long id;
 
     @PositiveOrZero(message = "Current balance must be positive or zero")
@@ -4,20 +4,24 @@ import jakarta.persistence.*;
 import jakarta.validation.constraints.*;
 import lombok.*;
 
+import static com.salary.management.utils.Constants.Persistence.ID_ALLOCATION_SIZE;
+
 @Getter
 @Setter
 @AllArgsConstructor
 @NoArgsConstructor
 @Entity
-@Table(name = "employees")
+@Table(name = "employees", uniqueConstraints =
+        @UniqueConstraint(name = "uk_employees_bank_account", columnNames = "bank_account_id"))
 public class Employee {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "employees_seq")
+    @SequenceGenerator(name = "employees_seq", sequenceName = "employees_seq", allocationSize = ID_ALLOCATION_SIZE)
     private Long id;
 
-    @Column(name = "employee_id", unique = true, nullable = false)
-    @Size(min = 4, max = 4, message = "Employee ID must be 4 digits")
+    @Column(name = "employee_id", unique = true, nullable = false, length = 20)
+    @Size(min = 4, max = 20, message = "Employee ID must be between 4 and 20 digits")
     private String employeeId;
 
     @NotBlank(message = "Name is required")
@@ -0,0 +1,25 @@
+package com.salary.management.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * Headcount limit and current occupancy of one employee grade.
+ * Occupancy only changes through the conditional updates in GradeCapacityRepository.
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@Table(name = "grade_capacity")
+public class GradeCapacity {
+    @Id
+    private Integer grade;
+
+    @Column(nullable = false)
+    private int maxEmployees;
+
+    @Column(nullable = false)
+    private int occupied;
+}
@@ -0,0 +1,8 @@
+package com.salary.management.entity;
+
+public enum LedgerAccountType {
+    COMPANY,
+    BANK,
+    // Counterparty for money entering the system, e.g. funds added to a company account
+    EXTERNAL
+}
@@ -0,0 +1,67 @@
+package com.salary.management.entity;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+import static com.salary.management.utils.Constants.Persistence.ID_ALLOCATION_SIZE;
+
+/**
+ * One side of a double-entry ledger transaction. Entries are insert-only; the only later write
+ * is the compaction job claiming an entry once it folds it into the account's snapshot.
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@Table(name = "ledger_entries", indexes = {
+        @Index(name = "idx_ledger_entries_account_run", columnList = "account_type, account_number, compaction_run"),
+        @Index(name = "idx_ledger_entries_transaction", columnList = "transaction_id")
+}, uniqueConstraints =
+        // One debit and one credit per transaction; also keeps a backfilled opening balance from being recorded twice
+        @UniqueConstraint(name = "uk_ledger_entries_transaction_side", columnNames = {"transaction_id", "entry_type"}))
+public class LedgerEntry {
+    // Pooled, so the inserts of a payroll chunk go out as JDBC batches; compaction does not depend on ID order
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "ledger_entries_seq")
+    @SequenceGenerator(name = "ledger_entries_seq", sequenceName = "ledger_entries_seq", allocationSize = ID_ALLOCATION_SIZE)
+    private Long id;
+
+    // Shared by the debit and credit entries of one transaction
+    @NotBlank
+    @Column(name = "transaction_id", nullable = false, updatable = false, length = 36)
+    private String transactionId;
+
+    @NotNull
+    @Enumerated(EnumType.STRING)
+    @Column(name = "account_type", nullable = false, updatable = false)
+    private LedgerAccountType accountType;
+
+    @NotBlank
+    @Column(name = "account_number", nullable = false, updatable = false)
+    private String accountNumber;
+
+    @NotNull
+    @Enumerated(EnumType.STRING)
+    @Column(name = "entry_type", nullable = false, updatable = false)
+    private LedgerEntryType entryType;
+
+    @NotNull
+    @Positive
+    @Column(precision = 15, scale = 2, nullable = false, updatable = false)
+    private BigDecimal amount;
+
+    @Column(updatable = false)
+    private String reference;
+
+    @Column(nullable = false, updatable = false)
+    private Instant createdAt;
+
+    // Compaction run that folded this entry into its snapshot; null while the entry is still in the tail
+    @Column(name = "compaction_run", length = 36)
+    private String compactionRun;
+}
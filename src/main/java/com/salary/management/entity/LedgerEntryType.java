@@ -0,0 +1,6 @@
+package com.salary.management.entity;
+
+public enum LedgerEntryType {
+    DEBIT,
+    CREDIT
+}
@@ -0,0 +1,45 @@
+package com.salary.management.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+/**
+ * Materialized ledger balance of one account, covering every entry claimed by a compaction run.
+ * Only the compaction job writes snapshots.
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@Table(name = "ledger_snapshots", uniqueConstraints =
+        @UniqueConstraint(name = "uk_ledger_snapshots_account", columnNames = {"account_type", "account_number"}))
+public class LedgerSnapshot {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "account_type", nullable = false)
+    private LedgerAccountType accountType;
+
+    @Column(name = "account_number", nullable = false)
+    private String accountNumber;
+
+    @Column(precision = 15, scale = 2, nullable = false)
+    private BigDecimal balance;
+
+    // Highest ID folded in so far; entries below it may still be in the tail, as IDs do not follow commit order
+    @Column(nullable = false)
+    private Long lastEntryId;
+
+    @Column(nullable = false)
+    private Instant updatedAt;
+
+    // Guards against two nodes compacting the same snapshot at once
+    @Version
+    private long version;
+}
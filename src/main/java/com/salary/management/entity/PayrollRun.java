@@ -0,0 +1,34 @@
+package com.salary.management.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+import static com.salary.management.utils.Constants.Payroll.MAX_IDEMPOTENCY_KEY_LENGTH;
+
+/**
+ * A submitted payroll run, keyed by the client's idempotency key.
+ * The unique key makes a retried or duplicated request fail instead of paying twice.
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@Table(name = "payroll_runs", uniqueConstraints =
+        @UniqueConstraint(name = "uk_payroll_runs_idempotency_key", columnNames = "idempotency_key"))
+public class PayrollRun {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "idempotency_key", nullable = false, length = MAX_IDEMPOTENCY_KEY_LENGTH)
+    private String idempotencyKey;
+
+    @Column(nullable = false)
+    private String companyAccountNumber;
+
+    @Column(nullable = false)
+    private Instant startedAt;
+}
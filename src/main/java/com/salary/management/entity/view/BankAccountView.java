@@ -0,0 +1,28 @@
+package com.salary.management.entity.view;
+
+import com.salary.management.entity.AccountType;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.math.BigDecimal;
+
+/**
+ * Read-only R2DBC view of a row in bank_accounts; the table is owned by the BankAccount JPA entity.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@Table("bank_accounts")
+public class BankAccountView {
+    @Id
+    private Long id;
+    private String accountName;
+    private String accountNumber;
+    private BigDecimal currentBalance;
+    private String bankName;
+    private String branchName;
+    private AccountType accountType;
+}
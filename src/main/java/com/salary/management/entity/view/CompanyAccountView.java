@@ -0,0 +1,27 @@
+package com.salary.management.entity.view;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.math.BigDecimal;
+
+/**
+ * Read-only R2DBC view of a row in company_accounts; the table is owned by the CompanyAccount JPA entity.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@Table("company_accounts")
+public class CompanyAccountView {
+    @Id
+    private Long id;
+    private String accountName;
+    private String accountNumber;
+    private BigDecimal currentBalance;
+    private String bankName;
+    private String branchName;
+    private BigDecimal paidBalance;
+}
@@ -0,0 +1,33 @@
+package com.salary.management.entity.view;
+
+import com.salary.management.entity.AccountType;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.annotation.Id;
+
+import java.math.BigDecimal;
+
+/**
+ * Read-only R2DBC view of an employee joined with its bank account.
+ * R2DBC has no associations, so the bank account columns are selected flat by the
+ * queries of ReactiveEmployeeRepository; the tables are owned by the JPA entities.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class EmployeeView {
+    @Id
+    private Long id;
+    private String employeeId;
+    private String name;
+    private Integer grade;
+    private String address;
+    private String mobileNumber;
+    private String accountName;
+    private String accountNumber;
+    private BigDecimal currentBalance;
+    private String bankName;
+    private String branchName;
+    private AccountType accountType;
+}
@@ -1,6 +1,7 @@
 package com.salary.management.exception;
 
 import com.salary.management.response.ErrorDetails;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExceptionHandler;
 import org.springframework.http.HttpHeaders;
@@ -75,4 +76,20 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
                 webRequest.getDescription(false));
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorDetails);
     }
+
+    /**
+     * Handles optimistic locking conflicts that were not retried, such as concurrent bank account updates.
+     *
+     * @param exception the OptimisticLockingFailureException instance
+     * @param webRequest the web request during which the exception was raised
+     * @return a ResponseEntity containing ErrorDetails and CONFLICT status
+     */
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ErrorDetails> handleOptimisticLockingFailure(OptimisticLockingFailureException exception,
+                                                                       WebRequest webRequest){
+        ErrorDetails errorDetails = new ErrorDetails(new Date(),
+                "The account was modified concurrently. Please try again.",
+                webRequest.getDescription(false));
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(errorDetails);
+    }
 }
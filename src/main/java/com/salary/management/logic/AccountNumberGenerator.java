@@ -0,0 +1,33 @@
+package com.salary.management.logic;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Hands out account numbers for new bank and company accounts.
+ * Implementations must never return the same number twice, across all nodes,
+ * and every number ends with a Luhn check digit.
+ */
+public interface AccountNumberGenerator {
+
+    /**
+     * Returns the next unused account number.
+     *
+     * @return A numeric account number including its check digit.
+     */
+    String nextAccountNumber();
+
+    /**
+     * Returns the given number of unused account numbers at once, for bulk provisioning.
+     *
+     * @param count How many account numbers to return.
+     * @return The account numbers, each including its check digit.
+     */
+    default List<String> nextAccountNumbers(int count) {
+        List<String> accountNumbers = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            accountNumbers.add(nextAccountNumber());
+        }
+        return accountNumbers;
+    }
+}
@@ -5,8 +5,6 @@ import com.salary.management.exception.CustomException;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
 
-import java.util.UUID;
-
 /**
  * Utility class for handling bank account-related business logic.
  */
@@ -29,13 +27,4 @@ public class BankAccountLogic {
             throw new CustomException(HttpStatus.BAD_REQUEST,"Invalid account type. Supported types are SAVINGS and CURRENT.");
         }
     }
-
-    /**
-     * Generates a unique 10-character bank account number using a UUID.
-     *
-     * @return A unique 10-digit alphanumeric account number.
-     */
-    public static String generateUniqueAccountNumber() {
-        return UUID.randomUUID().toString().replace("-", "").substring(0, 10);
-    }
 }
@@ -0,0 +1,47 @@
+package com.salary.management.logic;
+
+import com.salary.management.repository.EmployeeRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import static com.salary.management.utils.Constants.Employee.*;
+
+/**
+ * Allocates employee IDs from blocks reserved on {@code employee_id_seq}, so concurrent
+ * onboarding never hands out the same ID and only one hire per block costs a database round trip.
+ * The sequence starts after the highest existing employee ID. IDs are zero-padded to the
+ * configured width, which is a minimum: IDs beyond it simply grow longer.
+ */
+@Component
+public class EmployeeIdAllocator {
+
+    private final SequenceBlockAllocator allocator;
+    private final String idFormat;
+
+    public EmployeeIdAllocator(JdbcTemplate jdbcTemplate,
+                               EntityManagerFactory entityManagerFactory,
+                               EmployeeRepository employeeRepository,
+                               @Value("${employee.id.width:4}") int idWidth) {
+        if (idWidth < MIN_ID_WIDTH || idWidth > MAX_ID_WIDTH) {
+            throw new IllegalArgumentException(
+                    "employee.id.width must be between " + MIN_ID_WIDTH + " and " + MAX_ID_WIDTH);
+        }
+        // Created while the application starts, so no rolled-back hire can drop the sequence again
+        this.allocator = SequenceBlockAllocator.onSequence(jdbcTemplate,
+                entityManagerFactory.unwrap(SessionFactoryImplementor.class).getJdbcServices().getDialect(),
+                ID_SEQUENCE_NAME, () -> employeeRepository.findMaxNumericEmployeeId() + 1, ID_SEQUENCE_BLOCK_SIZE);
+        this.idFormat = "%0" + idWidth + "d";
+    }
+
+    /**
+     * Returns the next unused employee ID.
+     *
+     * @return The zero-padded employee ID.
+     */
+    public String nextEmployeeId() {
+        return String.format(idFormat, allocator.next());
+    }
+}
@@ -0,0 +1,163 @@
+package com.salary.management.logic;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.salary.management.dto.Employee.EmployeeRequestDTO;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reads employee import rows one line at a time, so the body is never buffered as a whole.
+ * CSV bodies start with a header naming the columns; quoted fields may contain commas
+ * but not line breaks. NDJSON bodies hold one EmployeeRequestDTO object per line.
+ * Rows that cannot be parsed are returned with an error instead of a request.
+ */
+public class EmployeeImportReader {
+
+    private static final List<String> CSV_COLUMNS =
+            List.of("name", "grade", "address", "mobileNumber", "accountName", "accountNumber");
+
+    private final BufferedReader reader;
+    private final Format format;
+    private final ObjectMapper objectMapper;
+
+    private int lineNumber;
+    private Map<String, Integer> csvColumns;
+    private boolean finished;
+
+    public EmployeeImportReader(BufferedReader reader, Format format, ObjectMapper objectMapper) {
+        this.reader = reader;
+        this.format = format;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Reads the next non-blank row.
+     *
+     * @return The next row, or null at the end of the body.
+     * @throws IOException if the body cannot be read.
+     */
+    public Row next() throws IOException {
+        if (finished) {
+            return null;
+        }
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            if (format == Format.CSV && csvColumns == null) {
+                String headerError = readHeader(line);
+                if (headerError != null) {
+                    // Without a usable header no row can be mapped
+                    finished = true;
+                    return new Row(lineNumber, null, headerError);
+                }
+                continue;
+            }
+            return format == Format.CSV ? parseCsv(line) : parseJson(line);
+        }
+        finished = true;
+        return null;
+    }
+
+    private String readHeader(String line) {
+        List<String> names = splitCsv(line);
+        csvColumns = new HashMap<>();
+        for (int i = 0; i < names.size(); i++) {
+            csvColumns.put(names.get(i).trim(), i);
+        }
+        List<String> missing = new ArrayList<>();
+        for (String column : CSV_COLUMNS) {
+            if (!csvColumns.containsKey(column)) {
+                missing.add(column);
+            }
+        }
+        return missing.isEmpty() ? null : "CSV header is missing columns: " + String.join(", ", missing);
+    }
+
+    private Row parseCsv(String line) {
+        List<String> fields = splitCsv(line);
+        EmployeeRequestDTO request = new EmployeeRequestDTO();
+        request.setName(field(fields, "name"));
+        request.setAddress(field(fields, "address"));
+        request.setMobileNumber(field(fields, "mobileNumber"));
+        request.setAccountName(field(fields, "accountName"));
+        request.setAccountNumber(field(fields, "accountNumber"));
+
+        String grade = field(fields, "grade");
+        if (grade != null) {
+            try {
+                request.setGrade(Integer.valueOf(grade));
+            } catch (NumberFormatException e) {
+                return new Row(lineNumber, null, "Grade must be a number");
+            }
+        }
+        return new Row(lineNumber, request, null);
+    }
+
+    private Row parseJson(String line) {
+        try {
+            return new Row(lineNumber, objectMapper.readValue(line, EmployeeRequestDTO.class), null);
+        } catch (JsonProcessingException e) {
+            return new Row(lineNumber, null, "Malformed JSON: " + e.getOriginalMessage());
+        }
+    }
+
+    private String field(List<String> fields, String column) {
+        int index = csvColumns.get(column);
+        if (index >= fields.size()) {
+            return null;
+        }
+        String value = fields.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    /**
+     * Splits one CSV line, honouring double-quoted fields and doubled quotes inside them.
+     */
+    private static List<String> splitCsv(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        fields.add(current.toString());
+        return fields;
+    }
+
+    public enum Format {
+        CSV,
+        NDJSON
+    }
+
+    /**
+     * One parsed row: either a request to validate and import, or the reason it could not be read.
+     */
+    public record Row(int rowNumber, EmployeeRequestDTO request, String error) {
+    }
+}
@@ -2,18 +2,18 @@ package com.salary.management.logic;
 
 import com.salary.management.dto.Employee.EmployeeRequestDTO;
 import com.salary.management.entity.BankAccount;
-import com.salary.management.entity.Employee;
 import com.salary.management.exception.CustomException;
 import com.salary.management.repository.BankAccountRepository;
-import com.salary.management.repository.EmployeeRepository;
+import org.hibernate.exception.ConstraintViolationException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
 
-import java.util.Optional;
+import java.util.Locale;
 
-import static com.salary.management.utils.Constants.Employee.GRADE_LIMITS;
+import static com.salary.management.utils.Constants.Employee.BANK_ACCOUNT_UNIQUE_CONSTRAINT;
 
 /**
  * Utility class for handling employee business logic.
@@ -23,57 +23,41 @@ public class EmployeeLogic {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(EmployeeLogic.class);
 
-    private final EmployeeRepository employeeRepository;
     private final BankAccountRepository bankAccountRepository;
+    private final EmployeeIdAllocator employeeIdAllocator;
 
     /**
      * Constructor for injecting dependencies into EmployeeLogic.
      *
-     * @param employeeRepository    the employee repository to access employee data
      * @param bankAccountRepository the bankAccount repository to access bank info
+     * @param employeeIdAllocator   the allocator handing out new employee IDs
      */
-    public EmployeeLogic(EmployeeRepository employeeRepository,
-                         BankAccountRepository bankAccountRepository) {
-        this.employeeRepository = employeeRepository;
+    public EmployeeLogic(BankAccountRepository bankAccountRepository,
+                         EmployeeIdAllocator employeeIdAllocator) {
         this.bankAccountRepository = bankAccountRepository;
+        this.employeeIdAllocator = employeeIdAllocator;
     }
 
     /**
-     * Validates the number of employees within a specific grade.
-     * Throws an exception if the maximum count is exceeded.
-     *
-     * @param grade the grade to validate
-     */
-    public void validateGradeLimits(int grade) {
-        LOGGER.debug("Validating employee count for grade: {}", grade);
-        long count = employeeRepository.countByGrade(grade);
-        if (count >= GRADE_LIMITS[grade - 1]) {
-            LOGGER.warn("Maximum number of employees reached for grade: {}", grade);
-            throw new CustomException(HttpStatus.BAD_REQUEST, "Maximum number of employees reached for grade " + grade);
-        }
-    }
-
-    /**
-     * Generates a new unique 4-digit employee ID.
+     * Generates a new unique employee ID from the employee ID allocator.
+     * Safe to call concurrently, on any number of nodes.
      *
      * @return the newly generated employee ID
      */
     public String generateNewEmployeeId() {
-        LOGGER.debug("Generating new employee ID");
-        Optional<Employee> employeeWithMaxId = employeeRepository.findTopByOrderByEmployeeIdDesc();
-        String lastEmployeeId = employeeWithMaxId.map(Employee::getEmployeeId).orElse("0000");
-        int newId = Integer.parseInt(lastEmployeeId) + 1;
-        String newEmployeeId = String.format("%04d", newId);
+        String newEmployeeId = employeeIdAllocator.nextEmployeeId();
         LOGGER.debug("New employee ID generated: {}", newEmployeeId);
         return newEmployeeId;
     }
 
     /**
-     * Retrieves a valid bank account and checks if it's already associated with another employee.
+     * Retrieves the bank account named in the request.
+     * Whether it already belongs to another employee is left to the unique constraint
+     * on {@code employees.bank_account_id}, see {@link #isBankAccountAlreadyAssigned}.
      *
      * @param request The EmployeeRequestDTO containing bank account details.
-     * @return The valid BankAccount entity.
-     * @throws CustomException If the bank account does not exist or is already associated with another employee.
+     * @return The BankAccount entity.
+     * @throws CustomException If the bank account does not exist.
      */
     public BankAccount getValidBankAccount(EmployeeRequestDTO request) {
         BankAccount bankAccount = bankAccountRepository.findByAccountNumberAndAccountName(
@@ -85,14 +69,23 @@ public class EmployeeLogic {
             throw new CustomException(HttpStatus.NOT_FOUND, "Bank account does not exist.");
         }
 
-        // Check if the bank account is already associated with another employee
-        Optional<Employee> existingEmployee = employeeRepository.findByBankAccount(bankAccount);
-        if (existingEmployee.isPresent()) {
-            LOGGER.error("Bank account {} is already associated with another employee with ID: {}",
-                    request.getAccountNumber(), existingEmployee.get().getEmployeeId());
-            throw new CustomException(HttpStatus.CONFLICT, "This account owner is someone else.");
-        }
-
         return bankAccount;
     }
+
+    /**
+     * Tells whether a failed employee write was rejected because the bank account
+     * is already associated with another employee.
+     *
+     * @param exception The exception raised when flushing the employee.
+     * @return true if the bank account unique constraint was violated.
+     */
+    public boolean isBankAccountAlreadyAssigned(DataIntegrityViolationException exception) {
+        for (Throwable cause = exception; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation && violation.getConstraintName() != null) {
+                return violation.getConstraintName().toLowerCase(Locale.ROOT).contains(BANK_ACCOUNT_UNIQUE_CONSTRAINT);
+            }
+        }
+        String message = exception.getMostSpecificCause().getMessage();
+        return message != null && message.toLowerCase(Locale.ROOT).contains(BANK_ACCOUNT_UNIQUE_CONSTRAINT);
+    }
 }
@@ -0,0 +1,145 @@
+package com.salary.management.logic;
+
+import com.salary.management.entity.GradeCapacity;
+import com.salary.management.exception.CustomException;
+import com.salary.management.repository.EmployeeRepository;
+import com.salary.management.repository.GradeCapacityRepository;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static com.salary.management.utils.Constants.Employee.GRADE_LIMITS;
+import static com.salary.management.utils.Constants.Salary.GRADE_COUNT;
+
+/**
+ * Enforces the per-grade headcount limits through the {@code grade_capacity} table.
+ * A hire reserves a seat with one conditional update, so the check is O(1) and concurrent
+ * hires can never overshoot the limit. Reservations must run in the same transaction as
+ * the employee write, so a failed hire gives its seat back on rollback.
+ */
+@Component
+public class GradeCapacityLogic {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(GradeCapacityLogic.class);
+
+    private final GradeCapacityRepository gradeCapacityRepository;
+    private final EmployeeRepository employeeRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int[] gradeLimits;
+
+    public GradeCapacityLogic(GradeCapacityRepository gradeCapacityRepository,
+                              EmployeeRepository employeeRepository,
+                              TransactionTemplate transactionTemplate,
+                              @Value("${employee.grade-limits:}") int[] gradeLimits) {
+        this.gradeCapacityRepository = gradeCapacityRepository;
+        this.employeeRepository = employeeRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.gradeLimits = gradeLimits.length == 0 ? GRADE_LIMITS : gradeLimits;
+        if (this.gradeLimits.length != GRADE_COUNT) {
+            throw new IllegalArgumentException("employee.grade-limits must list one limit per grade (" + GRADE_COUNT + ")");
+        }
+    }
+
+    /**
+     * Creates the capacity row of every grade on first start, counting the existing employees once,
+     * and applies the configured limits on every start. Runs while the context is created,
+     * so no request can reach a grade before its row exists.
+     */
+    @PostConstruct
+    public void initializeCapacities() {
+        for (int grade = 1; grade <= GRADE_COUNT; grade++) {
+            int limit = gradeLimits[grade - 1];
+            int currentGrade = grade;
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    if (gradeCapacityRepository.updateMaxEmployees(currentGrade, limit) == 0) {
+                        int occupied = Math.toIntExact(employeeRepository.countByGrade(currentGrade));
+                        gradeCapacityRepository.save(new GradeCapacity(currentGrade, limit, occupied));
+                        LOGGER.info("Grade {} capacity initialized with limit {} and {} employees", currentGrade, limit, occupied);
+                    }
+                });
+            } catch (DataIntegrityViolationException e) {
+                // Another node created the row first
+                LOGGER.debug("Grade {} capacity was initialized concurrently", currentGrade);
+            }
+        }
+    }
+
+    /**
+     * Takes one seat in the grade.
+     *
+     * @param grade the grade to reserve a seat in
+     * @throws CustomException if the grade is full
+     */
+    public void reserve(int grade) {
+        if (gradeCapacityRepository.reserve(grade) == 0) {
+            LOGGER.warn("Maximum number of employees reached for grade: {}", grade);
+            throw new CustomException(HttpStatus.BAD_REQUEST, "Maximum number of employees reached for grade " + grade);
+        }
+    }
+
+    /**
+     * Gives back one seat in the grade.
+     *
+     * @param grade the grade to release a seat in
+     */
+    public void release(int grade) {
+        if (gradeCapacityRepository.release(grade) == 0) {
+            LOGGER.warn("Released a seat in grade {} that had no occupied seats", grade);
+        }
+    }
+
+    /**
+     * Takes as many of the requested seats per grade as are still free. The grade rows are
+     * locked for the rest of the transaction to read the free seats, and the seats are then
+     * taken with the same conditional update as a single hire. Used by bulk imports.
+     *
+     * @param requestedByGrade the number of seats wanted per grade
+     * @return the number of seats granted per grade
+     */
+    public Map<Integer, Integer> reserveUpTo(Map<Integer, Integer> requestedByGrade) {
+        Map<Integer, Integer> granted = new HashMap<>();
+        for (GradeCapacity capacity : gradeCapacityRepository.lockByGrades(requestedByGrade.keySet())) {
+            int available = Math.max(0, capacity.getMaxEmployees() - capacity.getOccupied());
+            int seats = Math.min(requestedByGrade.get(capacity.getGrade()), available);
+            if (seats > 0 && gradeCapacityRepository.reserveSeats(capacity.getGrade(), seats) == 0) {
+                // Cannot happen while the row is locked; grant nothing rather than overshoot
+                LOGGER.warn("Could not reserve {} seats in grade {}", seats, capacity.getGrade());
+                seats = 0;
+            }
+            granted.put(capacity.getGrade(), seats);
+        }
+        return granted;
+    }
+
+    /**
+     * Moves one seat from the old grade to the new one. The grade rows are updated in
+     * ascending grade order so concurrent moves in opposite directions cannot deadlock.
+     * Must run in the transaction of the employee update: if the new grade is full after
+     * the old seat was released, the rollback gives that seat back.
+     *
+     * @param oldGrade the employee's current grade
+     * @param newGrade the requested grade
+     * @throws CustomException if the new grade is full
+     */
+    public void move(int oldGrade, int newGrade) {
+        if (oldGrade == newGrade) {
+            return;
+        }
+        if (newGrade < oldGrade) {
+            reserve(newGrade);
+            release(oldGrade);
+        } else {
+            release(oldGrade);
+            reserve(newGrade);
+        }
+    }
+}
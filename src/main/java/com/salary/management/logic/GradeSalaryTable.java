@@ -0,0 +1,104 @@
+package com.salary.management.logic;
+
+import com.salary.management.exception.CustomException;
+import com.salary.management.utils.Money;
+import org.springframework.http.HttpStatus;
+
+import static com.salary.management.utils.Constants.Salary.GRADE_COUNT;
+
+/**
+ * Immutable, precomputed salary breakdown for every employee grade.
+ * Built once from the lowest grade base salary so salary lookups are a plain array read.
+ * All components are exact {@link Money} amounts; allowances are rounded half-even to the cent.
+ */
+public final class GradeSalaryTable {
+
+    private static final Money GRADE_STEP = Money.ofMajor(5000);
+    // Allowance rates in basis points of the basic salary
+    private static final long HOUSE_RENT_RATE = 2000;
+    private static final long MEDICAL_ALLOWANCE_RATE = 1500;
+
+    private final Money baseSalary;
+    private final GradeSalary[] salaries;
+
+    private GradeSalaryTable(Money baseSalary, GradeSalary[] salaries) {
+        this.baseSalary = baseSalary;
+        this.salaries = salaries;
+    }
+
+    /**
+     * Builds the table for grades 1 to {@code GRADE_COUNT} from the lowest grade base salary.
+     *
+     * @param baseSalary The base salary of the lowest grade.
+     * @return The precomputed table.
+     */
+    public static GradeSalaryTable build(Money baseSalary) {
+        GradeSalary[] salaries = new GradeSalary[GRADE_COUNT];
+        for (int grade = 1; grade <= GRADE_COUNT; grade++) {
+            Money basicSalary = baseSalary.plus(GRADE_STEP.times(GRADE_COUNT - grade));
+            Money houseRent = basicSalary.applyRate(HOUSE_RENT_RATE);
+            Money medicalAllowance = basicSalary.applyRate(MEDICAL_ALLOWANCE_RATE);
+            Money totalSalary = basicSalary.plus(houseRent).plus(medicalAllowance);
+            salaries[grade - 1] = new GradeSalary(grade, basicSalary, houseRent, medicalAllowance, totalSalary);
+        }
+        return new GradeSalaryTable(baseSalary, salaries);
+    }
+
+    /**
+     * Returns the precomputed salary breakdown for a grade.
+     *
+     * @param grade Employee grade.
+     * @return The salary breakdown for the grade.
+     * @throws CustomException if the grade is out of range.
+     */
+    public GradeSalary forGrade(int grade) {
+        if (grade < 1 || grade > GRADE_COUNT) {
+            throw new CustomException(HttpStatus.BAD_REQUEST, "Grade must be between 1 and " + GRADE_COUNT);
+        }
+        return salaries[grade - 1];
+    }
+
+    public Money getBaseSalary() {
+        return baseSalary;
+    }
+
+    /**
+     * Salary components of a single grade.
+     */
+    public static final class GradeSalary {
+        private final int grade;
+        private final Money basicSalary;
+        private final Money houseRent;
+        private final Money medicalAllowance;
+        private final Money totalSalary;
+
+        private GradeSalary(int grade, Money basicSalary, Money houseRent,
+                            Money medicalAllowance, Money totalSalary) {
+            this.grade = grade;
+            this.basicSalary = basicSalary;
+            this.houseRent = houseRent;
+            this.medicalAllowance = medicalAllowance;
+            this.totalSalary = totalSalary;
+        }
+
+        public int getGrade() {
+            return grade;
+        }
+
+        public Money getBasicSalary() {
+            return basicSalary;
+        }
+
+        public Money getHouseRent() {
+            return houseRent;
+        }
+
+        public Money getMedicalAllowance() {
+            return medicalAllowance;
+        }
+
+        public Money getTotalSalary() {
+            return totalSalary;
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.salary.management.logic;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+import static com.salary.management.utils.Constants.Persistence.ID_ALLOCATION_SIZE;
+
+/**
+ * Moves the entity ID sequences past the existing rows on startup.
+ * Tables that used IDENTITY columns before the switch to pooled sequences already hold IDs
+ * that a freshly created sequence would hand out again; a sequence that is behind its
+ * table is restarted so its next pooled block starts above the highest existing ID.
+ */
+@Component
+public class IdSequenceAligner {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(IdSequenceAligner.class);
+
+    // Table to sequence name, matching the @SequenceGenerator of each entity
+    private static final Map<String, String> ID_SEQUENCES = Map.of(
+            "bank_accounts", "bank_accounts_seq",
+            "company_accounts", "company_accounts_seq",
+            "employees", "employees_seq",
+            "base_salaries", "base_salaries_seq",
+            "ledger_entries", "ledger_entries_seq");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Dialect dialect;
+
+    public IdSequenceAligner(JdbcTemplate jdbcTemplate, EntityManagerFactory entityManagerFactory) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.dialect = entityManagerFactory.unwrap(SessionFactoryImplementor.class).getJdbcServices().getDialect();
+    }
+
+    /**
+     * Restarts every ID sequence that could hand out an ID already used in its table.
+     * The pooled optimizer uses a sequence value as the upper end of a block, so the
+     * next value must be at least the highest ID plus a full block.
+     */
+    @PostConstruct
+    public void alignSequences() {
+        ID_SEQUENCES.forEach((table, sequence) -> {
+            Long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM " + table, Long.class);
+            Long nextValue = jdbcTemplate.queryForObject(
+                    dialect.getSequenceSupport().getSequenceNextValString(sequence), Long.class);
+            long minimum = maxId + ID_ALLOCATION_SIZE + 1;
+            if (nextValue != null && nextValue < minimum) {
+                jdbcTemplate.execute("ALTER SEQUENCE " + sequence + " RESTART WITH " + minimum);
+                LOGGER.info("Sequence {} restarted at {} to move past existing {} rows", sequence, minimum, table);
+            }
+        });
+    }
+}
@@ -0,0 +1,84 @@
+package com.salary.management.logic;
+
+import com.salary.management.entity.LedgerAccountType;
+import com.salary.management.service.ILedgerService;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+import static com.salary.management.utils.Constants.Ledger.OPENING_BALANCE;
+
+/**
+ * Records an opening balance in the ledger on startup for every account whose balance the
+ * ledger does not fully know, i.e. accounts created or funded before the ledger existed.
+ * An account gets at most one opening balance: accounts that have one are skipped, and every
+ * backfill is logged as a warning, so a difference appearing later is visible in the log.
+ */
+@Component
+public class LedgerOpeningBalanceBackfill {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LedgerOpeningBalanceBackfill.class);
+
+    // Account table per ledger account type
+    private static final Map<LedgerAccountType, String> ACCOUNT_TABLES = Map.of(
+            LedgerAccountType.COMPANY, "company_accounts",
+            LedgerAccountType.BANK, "bank_accounts");
+
+    // One statement, so the account balance and its ledger entries come from the same database snapshot
+    private static final String MISSING_BALANCES_SQL = "SELECT a.account_number, "
+            + "a.current_balance - COALESCE(s.balance, 0) - COALESCE(SUM(CASE WHEN e.entry_type = 'CREDIT' "
+            + "THEN e.amount ELSE -e.amount END), 0) AS missing "
+            + "FROM %s a "
+            + "LEFT JOIN ledger_snapshots s ON s.account_type = ? AND s.account_number = a.account_number "
+            + "LEFT JOIN ledger_entries e ON e.account_type = ? AND e.account_number = a.account_number "
+            + "AND e.compaction_run IS NULL "
+            + "WHERE NOT EXISTS (SELECT 1 FROM ledger_entries o WHERE o.account_type = ? "
+            + "AND o.account_number = a.account_number AND o.reference = ?) "
+            + "GROUP BY a.account_number, a.current_balance, s.balance";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ILedgerService ledgerService;
+
+    public LedgerOpeningBalanceBackfill(JdbcTemplate jdbcTemplate,
+                                        TransactionTemplate transactionTemplate,
+                                        ILedgerService ledgerService) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.ledgerService = ledgerService;
+    }
+
+    /**
+     * Records the missing opening balances of each account type in one transaction.
+     * If another node starting at the same time got there first, its entries stand and this
+     * node's transaction is rolled back.
+     */
+    @PostConstruct
+    public void backfillOpeningBalances() {
+        ACCOUNT_TABLES.forEach((accountType, table) -> {
+            List<Map<String, Object>> rows = jdbcTemplate.queryForList(String.format(MISSING_BALANCES_SQL, table),
+                    accountType.name(), accountType.name(), accountType.name(), OPENING_BALANCE);
+            List<Map<String, Object>> missing = rows.stream()
+                    .filter(row -> ((BigDecimal) row.get("missing")).signum() != 0)
+                    .toList();
+            if (missing.isEmpty()) {
+                return;
+            }
+            try {
+                transactionTemplate.executeWithoutResult(status -> missing.forEach(row -> ledgerService.recordOpeningBalance(
+                        accountType, (String) row.get("account_number"), (BigDecimal) row.get("missing"))));
+                LOGGER.warn("Recorded ledger opening balances of {} {} accounts", missing.size(), accountType);
+            } catch (DataIntegrityViolationException e) {
+                LOGGER.info("Ledger opening balances of {} accounts were recorded by another node", accountType);
+            }
+        });
+    }
+}
@@ -0,0 +1,93 @@
+package com.salary.management.logic;
+
+import com.salary.management.exception.CustomException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * Runs account writes in their own transaction and retries them when an optimistic
+ * version conflict is detected, backing off exponentially with full jitter between attempts.
+ * Conflicts, retries and exhausted operations are counted per operation.
+ */
+@Component
+public class OptimisticRetryLogic {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(OptimisticRetryLogic.class);
+
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final int maxAttempts;
+    private final long initialBackoffMillis;
+    private final long maxBackoffMillis;
+
+    public OptimisticRetryLogic(PlatformTransactionManager transactionManager,
+                                MeterRegistry meterRegistry,
+                                @Value("${account.optimistic-retry.max-attempts:5}") int maxAttempts,
+                                @Value("${account.optimistic-retry.initial-backoff-ms:10}") long initialBackoffMillis,
+                                @Value("${account.optimistic-retry.max-backoff-ms:200}") long maxBackoffMillis) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.meterRegistry = meterRegistry;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoffMillis = initialBackoffMillis;
+        this.maxBackoffMillis = maxBackoffMillis;
+    }
+
+    /**
+     * Executes the action in a new transaction, retrying on optimistic locking conflicts.
+     * Must be called outside of an existing transaction, otherwise a retry would reuse the failed one.
+     *
+     * @param operation The operation name, used as the metrics tag.
+     * @param action    The transactional work; it must re-read the entities it modifies.
+     * @param <T>       The result type.
+     * @return The result of the action.
+     * @throws CustomException with CONFLICT status if every attempt hit a conflict.
+     */
+    public <T> T executeWithRetry(String operation, Supplier<T> action) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> action.get());
+            } catch (OptimisticLockingFailureException e) {
+                counter("account.optimistic.conflicts", operation).increment();
+                if (attempt >= maxAttempts) {
+                    counter("account.optimistic.exhausted", operation).increment();
+                    LOGGER.warn("Optimistic locking conflict on {} not resolved after {} attempts", operation, attempt);
+                    throw new CustomException(HttpStatus.CONFLICT,
+                            "The account was modified concurrently. Please try again.");
+                }
+                counter("account.optimistic.retries", operation).increment();
+                LOGGER.debug("Optimistic locking conflict on {}, retrying (attempt {})", operation, attempt);
+                backOff(attempt);
+            }
+        }
+    }
+
+    /**
+     * Sleeps for a random duration between zero and the exponential backoff cap of the attempt.
+     */
+    private void backOff(int attempt) {
+        long cap = Math.min(maxBackoffMillis, initialBackoffMillis << Math.min(attempt - 1, 20));
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(cap + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CustomException(HttpStatus.SERVICE_UNAVAILABLE, "Interrupted while retrying the operation");
+        }
+    }
+
+    private Counter counter(String name, String operation) {
+        return Counter.builder(name)
+                .tag("operation", operation)
+                .register(meterRegistry);
+    }
+}
@@ -2,22 +2,32 @@ package com.salary.management.logic;
 
 import com.salary.management.entity.BaseSalary;
 import com.salary.management.exception.CustomException;
+import com.salary.management.logic.GradeSalaryTable.GradeSalary;
 import com.salary.management.repository.BaseSalaryRepository;
+import com.salary.management.utils.Money;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static com.salary.management.utils.Constants.Salary.LOWEST_GRADE_SALARY;
 
 /**
- * SalaryLogic class handles the core salary calculation logic
- * and retrieves base salary data from the database.
+ * SalaryLogic class handles the core salary calculation logic.
+ * Salary components for every grade are served from an in-memory {@link GradeSalaryTable}
+ * that is loaded once from the database and rebuilt whenever the base salary changes.
+ * The node that changes the base salary rebuilds its table on commit; every other node
+ * picks the change up on its next periodic refresh.
  */
 @Component
 public class SalaryLogic {
     private static final Logger LOGGER = LoggerFactory.getLogger(SalaryLogic.class);
     private final BaseSalaryRepository baseSalaryRepository;
+    private final AtomicReference<GradeSalaryTable> gradeSalaryTable = new AtomicReference<>();
 
     public SalaryLogic(BaseSalaryRepository baseSalaryRepository) {
         this.baseSalaryRepository = baseSalaryRepository;
@@ -30,38 +40,83 @@ public class SalaryLogic {
      * @throws CustomException if the base salary is not found.
      */
     public BaseSalary getBaseSalaryEntity() {
-        LOGGER.info("Fetching base salary entity for description: 'lowest_grade_salary'");
+        LOGGER.debug("Fetching base salary entity for description: '{}'", LOWEST_GRADE_SALARY);
 
-        BaseSalary baseSalary = baseSalaryRepository.findByDescription("lowest_grade_salary");
+        BaseSalary baseSalary = baseSalaryRepository.findByDescription(LOWEST_GRADE_SALARY);
         if (Objects.isNull(baseSalary)) {
-            LOGGER.error("Base salary not found for description: 'lowest_grade_salary'");
-            throw new CustomException(HttpStatus.NOT_FOUND, "Base salary not found for description: lowest_grade_salary");
+            LOGGER.error("Base salary not found for description: '{}'", LOWEST_GRADE_SALARY);
+            throw new CustomException(HttpStatus.NOT_FOUND, "Base salary not found for description: " + LOWEST_GRADE_SALARY);
         }
 
-        LOGGER.info("Base salary retrieved successfully: {}", baseSalary);
         return baseSalary;
     }
 
     /**
-     * Calculates salary components (basic salary, house rent, medical allowance, total salary)
-     * based on the provided grade.
+     * Returns the salary components (basic salary, house rent, medical allowance, total salary)
+     * for the provided grade from the precomputed grade table.
      *
      * @param grade Employee grade.
-     * @return An array containing salary components in the order:
-     *         [basicSalary, houseRent, medicalAllowance, totalSalary].
+     * @return The salary breakdown for the grade.
+     * @throws CustomException if the base salary has never been set or the grade is out of range.
      */
-    public double[] calculateSalaryComponents(int grade) {
-        LOGGER.info("Calculating salary components for grade: {}", grade);
+    public GradeSalary getSalaryForGrade(int grade) {
+        return getGradeSalaryTable().forGrade(grade);
+    }
 
-        BaseSalary baseSalary = getBaseSalaryEntity();
-        double basicSalary = baseSalary.getAmount() + (6 - grade) * 5000;
-        double houseRent = 0.20 * basicSalary;
-        double medicalAllowance = 0.15 * basicSalary;
-        double totalSalary = basicSalary + houseRent + medicalAllowance;
+    /**
+     * Returns the current grade table, loading it from the database on first use.
+     *
+     * @return The current grade salary table.
+     * @throws CustomException if the base salary has never been set.
+     */
+    public GradeSalaryTable getGradeSalaryTable() {
+        GradeSalaryTable table = gradeSalaryTable.get();
+        if (table != null) {
+            return table;
+        }
 
-        LOGGER.info("Salary calculation completed for grade {}: Basic Salary: {}, House Rent: {}, Medical Allowance: {}, Total Salary: {}",
-                grade, basicSalary, houseRent, medicalAllowance, totalSalary);
+        GradeSalaryTable loaded = GradeSalaryTable.build(Money.of(getBaseSalaryEntity().getAmount()));
+        // A concurrent rebuild wins over a lazy load that may have read an older value
+        if (!gradeSalaryTable.compareAndSet(null, loaded)) {
+            return gradeSalaryTable.get();
+        }
+        LOGGER.info("Grade salary table loaded with base salary: {}", loaded.getBaseSalary());
+        return loaded;
+    }
 
-        return new double[]{basicSalary, houseRent, medicalAllowance, totalSalary};
+    /**
+     * Atomically replaces the grade table with one built from the given base salary.
+     * Called once the new base salary has been committed.
+     *
+     * @param baseSalaryAmount The committed base salary of the lowest grade.
+     */
+    public void rebuildGradeSalaryTable(Money baseSalaryAmount) {
+        gradeSalaryTable.set(GradeSalaryTable.build(baseSalaryAmount));
+        LOGGER.info("Grade salary table rebuilt with base salary: {}", baseSalaryAmount);
+    }
+
+    /**
+     * Re-reads the base salary and rebuilds the grade table if it was changed on another node.
+     * A table that has not been loaded yet is left to the next lazy load.
+     */
+    @Scheduled(fixedDelayString = "${salary.grade-table.refresh-ms:5000}")
+    public void refreshGradeSalaryTable() {
+        GradeSalaryTable current = gradeSalaryTable.get();
+        if (current == null) {
+            return;
+        }
+
+        BaseSalary baseSalary = baseSalaryRepository.findByDescription(LOWEST_GRADE_SALARY);
+        if (Objects.isNull(baseSalary)) {
+            return;
+        }
+        Money amount = Money.of(baseSalary.getAmount());
+        if (amount.equals(current.getBaseSalary())) {
+            return;
+        }
+        // A rebuild on commit since the read wins over this possibly older value
+        if (gradeSalaryTable.compareAndSet(current, GradeSalaryTable.build(amount))) {
+            LOGGER.info("Grade salary table refreshed with base salary changed elsewhere: {}", amount);
+        }
     }
 }
@@ -0,0 +1,56 @@
+package com.salary.management.logic;
+
+import com.salary.management.utils.LuhnCheckDigit;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.salary.management.utils.Constants.AccountNumber.*;
+
+/**
+ * Default account number generator. Numbers are values of a shared database sequence,
+ * reserved in blocks so only one account in {@code SEQUENCE_BLOCK_SIZE} costs a round trip.
+ * Numbers from different nodes interleave but never collide.
+ */
+@Component
+@ConditionalOnProperty(name = "account-number.generator", havingValue = "sequence", matchIfMissing = true)
+public class SequenceBlockAccountNumberGenerator implements AccountNumberGenerator {
+
+    private final SequenceBlockAllocator allocator;
+
+    // The sequence is created here, while the application starts, so no request transaction can roll it back
+    @Autowired
+    public SequenceBlockAccountNumberGenerator(JdbcTemplate jdbcTemplate, EntityManagerFactory entityManagerFactory) {
+        this(SequenceBlockAllocator.onSequence(jdbcTemplate,
+                entityManagerFactory.unwrap(SessionFactoryImplementor.class).getJdbcServices().getDialect(),
+                SEQUENCE_NAME, () -> 1L, SEQUENCE_BLOCK_SIZE));
+    }
+
+    public SequenceBlockAccountNumberGenerator(SequenceBlockAllocator allocator) {
+        this.allocator = allocator;
+    }
+
+    @Override
+    public String nextAccountNumber() {
+        return format(allocator.next());
+    }
+
+    @Override
+    public List<String> nextAccountNumbers(int count) {
+        List<String> accountNumbers = new ArrayList<>(count);
+        for (long value : allocator.next(count)) {
+            accountNumbers.add(format(value));
+        }
+        return accountNumbers;
+    }
+
+    private static String format(long value) {
+        return LuhnCheckDigit.append(String.format(SEQUENCE_FORMAT, value));
+    }
+}
@@ -0,0 +1,115 @@
+package com.salary.management.logic;
+
+import org.hibernate.dialect.Dialect;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * Hands out consecutive values from blocks reserved on a database sequence.
+ * The sequence increments by the block size, so one {@code nextval} reserves a whole block
+ * for this node and values are served from memory until the block is used up.
+ * The block size is part of the sequence definition and must not change once it exists.
+ */
+public class SequenceBlockAllocator {
+
+    private final LongSupplier blockStarts;
+    private final int blockSize;
+    // A lock rather than synchronized, so virtual threads waiting on the block refill are not pinned
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private long nextValue;
+    private long blockEnd;
+
+    /**
+     * Creates an allocator over any source of blocks, e.g. an in-memory one in benchmarks.
+     *
+     * @param blockStarts Returns the first value of a newly reserved block on every call.
+     * @param blockSize   The number of values in each block.
+     */
+    public SequenceBlockAllocator(LongSupplier blockStarts, int blockSize) {
+        if (blockSize < 1) {
+            throw new IllegalArgumentException("Block size must be positive");
+        }
+        this.blockStarts = blockStarts;
+        this.blockSize = blockSize;
+    }
+
+    /**
+     * Creates the sequence if it does not exist yet and returns an allocator reserving blocks from it.
+     * Must be called outside any transaction, typically while the application starts: on PostgreSQL
+     * the {@code CREATE SEQUENCE} would otherwise be undone by a rollback of the caller's transaction,
+     * while this node keeps serving the block it reserved and another node recreates the sequence
+     * from the same start value.
+     *
+     * @param startWith Only evaluated when the sequence is created.
+     * @throws IllegalStateException if a transaction is active.
+     */
+    public static SequenceBlockAllocator onSequence(JdbcTemplate jdbcTemplate, Dialect dialect,
+                                                    String sequenceName, LongSupplier startWith, int blockSize) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("Sequence " + sequenceName + " must be created outside a transaction");
+        }
+        // Auto-committed, as no transaction is bound to this thread
+        jdbcTemplate.execute("CREATE SEQUENCE IF NOT EXISTS " + sequenceName
+                + " START WITH " + startWith.getAsLong() + " INCREMENT BY " + blockSize);
+
+        String nextValueSql = dialect.getSequenceSupport().getSequenceNextValString(sequenceName);
+        return new SequenceBlockAllocator(() -> {
+            Long blockStart = jdbcTemplate.queryForObject(nextValueSql, Long.class);
+            if (blockStart == null) {
+                throw new IllegalStateException("Sequence " + sequenceName + " returned no value");
+            }
+            return blockStart;
+        }, blockSize);
+    }
+
+    /**
+     * Returns the next value, reserving a new block from the sequence when the current one is used up.
+     *
+     * @return A value no other caller, on any node, has received.
+     */
+    public long next() {
+        lock.lock();
+        try {
+            if (nextValue >= blockEnd) {
+                reserveBlock();
+            }
+            return nextValue++;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the given number of values under one lock acquisition, reserving as many
+     * blocks as needed; the values are ascending but span a block boundary if one is crossed.
+     *
+     * @param count How many values to return.
+     * @return Values no other caller, on any node, has received.
+     */
+    public long[] next(int count) {
+        long[] values = new long[count];
+        lock.lock();
+        try {
+            for (int i = 0; i < count; i++) {
+                if (nextValue >= blockEnd) {
+                    reserveBlock();
+                }
+                values[i] = nextValue++;
+            }
+        } finally {
+            lock.unlock();
+        }
+        return values;
+    }
+
+    // nextval is not transactional, so a block survives a rollback of the transaction that reserved it
+    private void reserveBlock() {
+        long blockStart = blockStarts.getAsLong();
+        nextValue = blockStart;
+        blockEnd = blockStart + blockSize;
+    }
+}
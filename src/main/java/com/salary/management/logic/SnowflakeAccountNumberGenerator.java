@@ -0,0 +1,93 @@
+package com.salary.management.logic;
+
+import com.salary.management.utils.LuhnCheckDigit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+import static com.salary.management.utils.Constants.AccountNumber.*;
+
+/**
+ * Snowflake-style account number generator that needs no database at all.
+ * The number packs the seconds since {@code SNOWFLAKE_EPOCH_SECONDS}, the node ID and a
+ * per-second counter, followed by a Luhn check digit. Every node must have a distinct node ID.
+ * <p>
+ * If the counter runs out within a second, the generator waits for the clock to reach the
+ * next second instead of borrowing it, so it never issues a timestamp ahead of the clock and a
+ * restarted node cannot repeat numbers issued before the restart. If the clock moves backwards
+ * by a few seconds, the generator keeps counting on its last timestamp; a larger jump is refused.
+ */
+@Component
+@ConditionalOnProperty(name = "account-number.generator", havingValue = "snowflake")
+public class SnowflakeAccountNumberGenerator implements AccountNumberGenerator {
+
+    private static final long MAX_NODE_ID = (1L << SNOWFLAKE_NODE_BITS) - 1;
+    private static final long MAX_COUNTER = (1L << SNOWFLAKE_COUNTER_BITS) - 1;
+
+    private final long nodeId;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private long lastSecond = -1L;
+    private long counter;
+
+    public SnowflakeAccountNumberGenerator(@Value("${account-number.node-id:0}") long nodeId) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("account-number.node-id must be between 0 and " + MAX_NODE_ID);
+        }
+        this.nodeId = nodeId;
+    }
+
+    @Override
+    public String nextAccountNumber() {
+        long second;
+        long sequence;
+        lock.lock();
+        try {
+            long now = currentSecond();
+            if (now < lastSecond - SNOWFLAKE_MAX_CLOCK_BACKWARD_SECONDS) {
+                throw new IllegalStateException("Clock moved backwards by " + (lastSecond - now)
+                        + " seconds; refusing to generate account numbers");
+            }
+            if (now > lastSecond) {
+                lastSecond = now;
+                counter = 0;
+            } else if (++counter > MAX_COUNTER) {
+                lastSecond = awaitSecondAfter(lastSecond);
+                counter = 0;
+            }
+            second = lastSecond;
+            sequence = counter;
+        } finally {
+            lock.unlock();
+        }
+
+        long id = (second << (SNOWFLAKE_NODE_BITS + SNOWFLAKE_COUNTER_BITS))
+                | (nodeId << SNOWFLAKE_COUNTER_BITS)
+                | sequence;
+        return LuhnCheckDigit.append(String.format(SNOWFLAKE_FORMAT, id));
+    }
+
+    /**
+     * Blocks until the clock has passed the given second. Called with the lock held, so
+     * concurrent callers wait as well instead of taking numbers from a future second.
+     */
+    private static long awaitSecondAfter(long second) {
+        long now = currentSecond();
+        while (now <= second) {
+            try {
+                Thread.sleep(Math.max(1L, 1000 - System.currentTimeMillis() % 1000));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for the next second", e);
+            }
+            now = currentSecond();
+        }
+        return now;
+    }
+
+    private static long currentSecond() {
+        return System.currentTimeMillis() / 1000 - SNOWFLAKE_EPOCH_SECONDS;
+    }
+}
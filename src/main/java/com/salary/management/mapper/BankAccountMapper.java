@@ -4,6 +4,7 @@ import com.salary.management.dto.BankAccount.BankAccountRequestDTO;
 import com.salary.management.dto.BankAccount.BankAccountResponseDTO;
 import com.salary.management.dto.BankAccount.BankAccountUpdateRequestDTO;
 import com.salary.management.entity.BankAccount;
+import com.salary.management.entity.view.BankAccountView;
 
 import java.math.BigDecimal;
 import java.util.UUID;
@@ -29,6 +30,23 @@ public class BankAccountMapper {
         );
     }
 
+    /**
+     * Converts a reactive BankAccountView to a BankAccountResponseDTO.
+     *
+     * @param view The view to convert.
+     * @return The corresponding response DTO.
+     */
+    public static BankAccountResponseDTO toResponseDto(BankAccountView view) {
+        return new BankAccountResponseDTO(
+                view.getAccountName(),
+                view.getAccountNumber(),
+                view.getCurrentBalance(),
+                view.getBankName(),
+                view.getBranchName(),
+                view.getAccountType()
+        );
+    }
+
     /**
      * Converts a BankAccountRequestDTO to a BankAccount entity.
      *
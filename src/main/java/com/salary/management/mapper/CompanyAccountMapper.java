@@ -4,11 +4,10 @@ import com.salary.management.dto.CompanyAccount.CompanyAccountRequestDTO;
 import com.salary.management.dto.CompanyAccount.CompanyAccountResponseDTO;
 import com.salary.management.dto.CompanyAccount.CompanyAccountUpdateRequestDTO;
 import com.salary.management.entity.CompanyAccount;
+import com.salary.management.entity.view.CompanyAccountView;
 
 import java.math.BigDecimal;
 
-import static com.salary.management.logic.BankAccountLogic.generateUniqueAccountNumber;
-
 public class CompanyAccountMapper {
 
     /**
@@ -28,6 +27,23 @@ public class CompanyAccountMapper {
         );
     }
 
+    /**
+     * Converts a reactive CompanyAccountView to a CompanyAccountResponseDTO.
+     *
+     * @param view The view to convert.
+     * @return The corresponding response DTO.
+     */
+    public static CompanyAccountResponseDTO toResponseDto(CompanyAccountView view) {
+        return new CompanyAccountResponseDTO(
+                view.getAccountName(),
+                view.getAccountNumber(),
+                view.getCurrentBalance(),
+                view.getBankName(),
+                view.getBranchName(),
+                view.getPaidBalance()
+        );
+    }
+
     /**
      * Converts a BankAccountRequestDTO to a BankAccount entity.
      *
@@ -37,7 +53,6 @@ public class CompanyAccountMapper {
     public static CompanyAccount toEntity(CompanyAccountRequestDTO requestDto) {
         CompanyAccount account = new CompanyAccount();
         account.setAccountName(requestDto.getAccountName());
-        account.setAccountNumber(generateUniqueAccountNumber());
         account.setCurrentBalance(requestDto.getCurrentBalance());
         account.setBankName(requestDto.getBankName());
         account.setBranchName(requestDto.getBranchName());
@@ -4,6 +4,8 @@ import com.salary.management.dto.Employee.EmployeeRequestDTO;
 import com.salary.management.dto.Employee.EmployeeResponseDTO;
 import com.salary.management.entity.BankAccount;
 import com.salary.management.entity.Employee;
+import com.salary.management.entity.view.EmployeeView;
+import com.salary.management.logic.GradeSalaryTable.GradeSalary;
 
 /**
  * Mapper class for converting Employee-related DTOs and entities.
@@ -32,10 +34,10 @@ public class EmployeeMapper {
      * Converts an Employee entity to an EmployeeResponseDTO.
      *
      * @param employee         The Employee entity containing employee details.
-     * @param salaryComponents An array representing salary breakdown (basic, rent, medical, total).
+     * @param gradeSalary      The precomputed salary breakdown for the employee's grade.
      * @return The EmployeeResponseDTO containing employee and salary details.
      */
-    public static EmployeeResponseDTO toResponseDto(Employee employee, double[] salaryComponents) {
+    public static EmployeeResponseDTO toResponseDto(Employee employee, GradeSalary gradeSalary) {
         EmployeeResponseDTO responseDto = new EmployeeResponseDTO();
         responseDto.setEmployeeId(employee.getEmployeeId());
         responseDto.setName(employee.getName());
@@ -47,7 +49,36 @@ public class EmployeeMapper {
         responseDto.setBankAccountDetails(getBankAccountDetails(employee));
 
         // Map salary details
-        responseDto.setSalaryComponents(mapSalaryComponents(salaryComponents));
+        responseDto.setSalaryComponents(mapSalaryComponents(gradeSalary));
+
+        return responseDto;
+    }
+
+    /**
+     * Converts a reactive EmployeeView to an EmployeeResponseDTO.
+     *
+     * @param view        The EmployeeView with employee and bank account columns.
+     * @param gradeSalary The precomputed salary breakdown for the employee's grade.
+     * @return The EmployeeResponseDTO containing employee and salary details.
+     */
+    public static EmployeeResponseDTO toResponseDto(EmployeeView view, GradeSalary gradeSalary) {
+        EmployeeResponseDTO responseDto = new EmployeeResponseDTO();
+        responseDto.setEmployeeId(view.getEmployeeId());
+        responseDto.setName(view.getName());
+        responseDto.setGrade(view.getGrade());
+        responseDto.setAddress(view.getAddress());
+        responseDto.setMobileNumber(view.getMobileNumber());
+
+        EmployeeResponseDTO.BankAccountDetails bankAccountDetails = new EmployeeResponseDTO.BankAccountDetails();
+        bankAccountDetails.setAccountName(view.getAccountName());
+        bankAccountDetails.setAccountNumber(view.getAccountNumber());
+        bankAccountDetails.setBankName(view.getBankName());
+        bankAccountDetails.setBranchName(view.getBranchName());
+        bankAccountDetails.setAccountType(view.getAccountType());
+        bankAccountDetails.setCurrentBalance(view.getCurrentBalance());
+        responseDto.setBankAccountDetails(bankAccountDetails);
+
+        responseDto.setSalaryComponents(mapSalaryComponents(gradeSalary));
 
         return responseDto;
     }
@@ -72,21 +103,17 @@ public class EmployeeMapper {
     }
 
     /**
-     * Maps an array of salary components to a SalaryComponents DTO.
+     * Maps a grade salary breakdown to a SalaryComponents DTO.
      *
-     * @param salaryComponents An array representing salary breakdown.
-     *                          Index 0 → Basic Salary
-     *                          Index 1 → House Rent
-     *                          Index 2 → Medical Allowance
-     *                          Index 3 → Total Salary
+     * @param gradeSalary The precomputed salary breakdown of a grade.
      * @return A SalaryComponents DTO containing salary breakdown.
      */
-    private static EmployeeResponseDTO.SalaryComponents mapSalaryComponents(double[] salaryComponents) {
+    private static EmployeeResponseDTO.SalaryComponents mapSalaryComponents(GradeSalary gradeSalary) {
         EmployeeResponseDTO.SalaryComponents salary = new EmployeeResponseDTO.SalaryComponents();
-        salary.setBasicSalary(salaryComponents[0]);
-        salary.setHouseRent(salaryComponents[1]);
-        salary.setMedicalAllowance(salaryComponents[2]);
-        salary.setTotalSalary(salaryComponents[3]);
+        salary.setBasicSalary(gradeSalary.getBasicSalary().toBigDecimal());
+        salary.setHouseRent(gradeSalary.getHouseRent().toBigDecimal());
+        salary.setMedicalAllowance(gradeSalary.getMedicalAllowance().toBigDecimal());
+        salary.setTotalSalary(gradeSalary.getTotalSalary().toBigDecimal());
 
         return salary;
     }
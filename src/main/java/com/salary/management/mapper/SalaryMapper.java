@@ -4,6 +4,7 @@ import com.salary.management.dto.Salary.BaseSalaryRequestDTO;
 import com.salary.management.dto.Salary.BaseSalaryResponseDTO;
 import com.salary.management.dto.Salary.SalaryResponseDTO;
 import com.salary.management.entity.BaseSalary;
+import com.salary.management.logic.GradeSalaryTable.GradeSalary;
 
 public class SalaryMapper {
 
@@ -33,13 +34,20 @@ public class SalaryMapper {
         return responseDTO;
     }
 
-    public static SalaryResponseDTO toResponseDTO(int grade, double basicSalary, double houseRent, double medicalAllowance, double totalSalary) {
+    /**
+     * Converts the salary breakdown of a grade to a SalaryResponseDTO.
+     *
+     * @param grade       The employee grade.
+     * @param gradeSalary The precomputed salary breakdown of the grade.
+     * @return The converted SalaryResponseDTO.
+     */
+    public static SalaryResponseDTO toResponseDTO(int grade, GradeSalary gradeSalary) {
         SalaryResponseDTO responseDTO = new SalaryResponseDTO();
         responseDTO.setGrade(grade);
-        responseDTO.setBasicSalary(basicSalary);
-        responseDTO.setHouseRent(houseRent);
-        responseDTO.setMedicalAllowance(medicalAllowance);
-        responseDTO.setTotalSalary(totalSalary);
+        responseDTO.setBasicSalary(gradeSalary.getBasicSalary().toBigDecimal());
+        responseDTO.setHouseRent(gradeSalary.getHouseRent().toBigDecimal());
+        responseDTO.setMedicalAllowance(gradeSalary.getMedicalAllowance().toBigDecimal());
+        responseDTO.setTotalSalary(gradeSalary.getTotalSalary().toBigDecimal());
         return responseDTO;
     }
 }
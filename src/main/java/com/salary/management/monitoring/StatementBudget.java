@@ -0,0 +1,20 @@
+package com.salary.management.monitoring;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declares the maximum number of SQL statements a controller endpoint may prepare per request.
+ * Exceeding it logs a warning or fails the request, depending on {@code statement-budget.mode}.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface StatementBudget {
+
+    /**
+     * The maximum number of statements per request.
+     */
+    int value();
+}
@@ -0,0 +1,154 @@
+package com.salary.management.monitoring;
+
+import com.salary.management.exception.CustomException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import static com.salary.management.utils.Constants.Metrics.*;
+
+/**
+ * Counts the SQL statements of every controller request and checks them against the
+ * {@link StatementBudget} of the endpoint.
+ * The count is sent in the {@code X-SQL-Statement-Count} header, written just before the response
+ * body, and recorded per endpoint when the request completes. In WARN mode an exceeded budget is
+ * logged and counted; in FAIL mode the request fails with 500, which is meant for tests.
+ * Streamed response bodies run on another thread and are not counted.
+ */
+@ControllerAdvice
+public class StatementBudgetInterceptor implements AsyncHandlerInterceptor, ResponseBodyAdvice<Object> {
+
+    public static final String STATEMENT_COUNT_HEADER = "X-SQL-Statement-Count";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(StatementBudgetInterceptor.class);
+    private static final String ENDPOINT_ATTRIBUTE = StatementBudgetInterceptor.class.getName() + ".endpoint";
+    private static final String BUDGET_ATTRIBUTE = StatementBudgetInterceptor.class.getName() + ".budget";
+    private static final String CHECKED_ATTRIBUTE = StatementBudgetInterceptor.class.getName() + ".checked";
+
+    /**
+     * What happens when an endpoint exceeds its budget.
+     */
+    public enum Mode {
+        OFF, WARN, FAIL
+    }
+
+    private final StatementCountInspector statementCountInspector;
+    private final MeterRegistry meterRegistry;
+    private final Mode mode;
+
+    public StatementBudgetInterceptor(StatementCountInspector statementCountInspector,
+                                      MeterRegistry meterRegistry,
+                                      @Value("${statement-budget.mode:WARN}") Mode mode) {
+        this.statementCountInspector = statementCountInspector;
+        this.meterRegistry = meterRegistry;
+        this.mode = mode;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (mode != Mode.OFF && handler instanceof HandlerMethod handlerMethod) {
+            request.setAttribute(ENDPOINT_ATTRIBUTE,
+                    handlerMethod.getBeanType().getSimpleName() + "." + handlerMethod.getMethod().getName());
+            StatementBudget budget = handlerMethod.getMethodAnnotation(StatementBudget.class);
+            if (budget != null) {
+                request.setAttribute(BUDGET_ATTRIBUTE, budget.value());
+            }
+            statementCountInspector.start();
+        }
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        // The rest of the request runs on another thread
+        statementCountInspector.stop();
+        request.removeAttribute(ENDPOINT_ATTRIBUTE);
+    }
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return mode != Mode.OFF;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        if (request instanceof ServletServerHttpRequest servletRequest
+                && servletRequest.getServletRequest().getAttribute(ENDPOINT_ATTRIBUTE) != null) {
+            int count = statementCountInspector.current();
+            response.getHeaders().set(STATEMENT_COUNT_HEADER, Integer.toString(count));
+            checkBudget(servletRequest.getServletRequest(), count);
+        }
+        return body;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        Object endpoint = request.getAttribute(ENDPOINT_ATTRIBUTE);
+        if (endpoint == null) {
+            return;
+        }
+        int count = statementCountInspector.stop();
+        DistributionSummary.builder(REQUEST_STATEMENTS)
+                .tag(ENDPOINT_TAG, endpoint.toString())
+                .register(meterRegistry)
+                .record(count);
+        if (request.getAttribute(CHECKED_ATTRIBUTE) == null && exceeds(request, count)) {
+            // The response is already written, so the budget can only be reported here
+            reportExceeded(endpoint.toString(), count, (Integer) request.getAttribute(BUDGET_ATTRIBUTE));
+        }
+    }
+
+    /**
+     * Checks the count against the endpoint budget once per request.
+     *
+     * @throws CustomException in FAIL mode if the budget is exceeded
+     */
+    private void checkBudget(HttpServletRequest request, int count) {
+        if (request.getAttribute(CHECKED_ATTRIBUTE) != null) {
+            return;
+        }
+        request.setAttribute(CHECKED_ATTRIBUTE, Boolean.TRUE);
+        if (!exceeds(request, count)) {
+            return;
+        }
+
+        String endpoint = request.getAttribute(ENDPOINT_ATTRIBUTE).toString();
+        int budget = (Integer) request.getAttribute(BUDGET_ATTRIBUTE);
+        reportExceeded(endpoint, count, budget);
+        if (mode == Mode.FAIL) {
+            throw new CustomException(HttpStatus.INTERNAL_SERVER_ERROR,
+                    endpoint + " ran " + count + " SQL statements, over its budget of " + budget);
+        }
+    }
+
+    private boolean exceeds(HttpServletRequest request, int count) {
+        Object budget = request.getAttribute(BUDGET_ATTRIBUTE);
+        return budget != null && count > (Integer) budget;
+    }
+
+    private void reportExceeded(String endpoint, int count, int budget) {
+        Counter.builder(STATEMENT_BUDGET_EXCEEDED)
+                .tag(ENDPOINT_TAG, endpoint)
+                .register(meterRegistry)
+                .increment();
+        LOGGER.warn("{} ran {} SQL statements, over its budget of {}", endpoint, count, budget);
+    }
+}
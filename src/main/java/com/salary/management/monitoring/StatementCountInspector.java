@@ -0,0 +1,50 @@
+package com.salary.management.monitoring;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.stereotype.Component;
+
+/**
+ * Counts the SQL statements Hibernate prepares on the current thread while a count is active.
+ * Registered as the session factory statement inspector; the SQL itself is left unchanged.
+ * Statements issued through JdbcTemplate or R2DBC do not pass through Hibernate and are not counted.
+ */
+@Component
+public class StatementCountInspector implements StatementInspector {
+
+    private final ThreadLocal<int[]> counts = new ThreadLocal<>();
+
+    @Override
+    public String inspect(String sql) {
+        int[] count = counts.get();
+        if (count != null) {
+            count[0]++;
+        }
+        return sql;
+    }
+
+    /**
+     * Starts counting statements on the current thread from zero.
+     */
+    public void start() {
+        counts.set(new int[1]);
+    }
+
+    /**
+     * @return The statements counted on the current thread so far, or 0 if no count is active.
+     */
+    public int current() {
+        int[] count = counts.get();
+        return count != null ? count[0] : 0;
+    }
+
+    /**
+     * Stops counting on the current thread.
+     *
+     * @return The statements counted since {@link #start()}.
+     */
+    public int stop() {
+        int count = current();
+        counts.remove();
+        return count;
+    }
+}
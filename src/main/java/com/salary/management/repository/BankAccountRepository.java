@@ -1,11 +1,31 @@
 package com.salary.management.repository;
 
 import com.salary.management.entity.BankAccount;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+
 @Repository
 public interface BankAccountRepository extends JpaRepository<BankAccount, Long> {
     BankAccount findByAccountNumberAndAccountName(String accountNumber, String accountName);
     BankAccount findByAccountNumber(String accountNumber);
+
+    // Batched lookup of many accounts by number in one query
+    List<BankAccount> findByAccountNumberIn(Collection<String> accountNumbers);
+
+    // Keyset page: accounts after the given primary key
+    List<BankAccount> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+    // Atomically credit an account, bumping its version so concurrent entity updates detect the change
+    @Modifying
+    @Query("UPDATE BankAccount b SET b.currentBalance = b.currentBalance + :amount, " +
+            "b.version = b.version + 1 WHERE b.id = :id")
+    int credit(@Param("id") Long id, @Param("amount") BigDecimal amount);
 }
@@ -1,12 +1,31 @@
 package com.salary.management.repository;
 
 import com.salary.management.entity.CompanyAccount;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
+import java.util.List;
+
 @Repository
 public interface CompanyAccountRepository extends JpaRepository<CompanyAccount, Long> {
     CompanyAccount findByAccountNumberAndAccountName(String accountNumber, String accountName);
     CompanyAccount findByAccountNumber(String accountNumber);
+
+    // Keyset page: accounts after the given primary key
+    List<CompanyAccount> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+    boolean existsByAccountNumber(String accountNumber);
+
+    // Atomically debit a salary payment; updates nothing if the balance cannot cover it
+    @Modifying
+    @Query("UPDATE CompanyAccount c SET c.currentBalance = c.currentBalance - :amount, " +
+            "c.paidBalance = c.paidBalance + :amount, c.version = c.version + 1 " +
+            "WHERE c.accountNumber = :accountNumber AND c.currentBalance >= :amount")
+    int debitSalary(@Param("accountNumber") String accountNumber, @Param("amount") BigDecimal amount);
 }
 
@@ -1,10 +1,18 @@
 package com.salary.management.repository;
 
-import com.salary.management.entity.BankAccount;
 import com.salary.management.entity.Employee;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -12,12 +20,36 @@ public interface EmployeeRepository extends JpaRepository<Employee, Long> {
     // Count employees by grade
     long countByGrade(int grade);
 
-    // Find the top employee with the highest ID for generating new IDs
-    Optional<Employee> findTopByOrderByEmployeeIdDesc();
+    // Highest numeric employee ID, used once to start the employee ID sequence after existing employees
+    @Query("SELECT COALESCE(MAX(CAST(e.employeeId AS Long)), 0) FROM Employee e")
+    long findMaxNumericEmployeeId();
 
-    // Find an employee by their unique employee ID
+    // Find an employee by their unique employee ID, with the bank account in the same query
+    @EntityGraph(attributePaths = "bankAccount")
     Optional<Employee> findByEmployeeId(String employeeId);
 
-    // Find bank account
-    Optional<Employee> findByBankAccount(BankAccount bankAccount);
+    // Find and lock an employee, so grade changes and deletes of the same employee are serialized
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT e FROM Employee e WHERE e.employeeId = :employeeId")
+    Optional<Employee> lockByEmployeeId(@Param("employeeId") String employeeId);
+
+    // Employees matching the given employee IDs, with bank accounts in the same query
+    @EntityGraph(attributePaths = "bankAccount")
+    List<Employee> findByEmployeeIdIn(Collection<String> employeeIds);
+
+    // Which of the given bank accounts already belong to an employee
+    @Query("SELECT e.bankAccount.id FROM Employee e WHERE e.bankAccount.id IN :bankAccountIds")
+    List<Long> findAssignedBankAccountIds(@Param("bankAccountIds") Collection<Long> bankAccountIds);
+
+    // Keyset page: employees after the given primary key, with bank accounts in the same query
+    @EntityGraph(attributePaths = "bankAccount")
+    List<Employee> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+    // Next chunk of employees (with bank accounts, if any) after the given primary key, for payroll runs
+    @Query("SELECT e FROM Employee e LEFT JOIN FETCH e.bankAccount WHERE e.id > :afterId ORDER BY e.id")
+    List<Employee> findPayrollChunk(@Param("afterId") Long afterId, Pageable pageable);
+
+    // Employees (with bank accounts, if any) matching the given employee IDs, for payroll runs
+    @Query("SELECT e FROM Employee e LEFT JOIN FETCH e.bankAccount WHERE e.employeeId IN :employeeIds ORDER BY e.id")
+    List<Employee> findPayrollChunkByEmployeeIds(@Param("employeeIds") Collection<String> employeeIds);
 }
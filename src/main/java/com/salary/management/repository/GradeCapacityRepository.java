@@ -0,0 +1,44 @@
+package com.salary.management.repository;
+
+import com.salary.management.entity.GradeCapacity;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface GradeCapacityRepository extends JpaRepository<GradeCapacity, Integer> {
+
+    // Atomically take one seat in the grade; updates nothing if the grade is full
+    @Modifying
+    @Query("UPDATE GradeCapacity g SET g.occupied = g.occupied + 1 " +
+            "WHERE g.grade = :grade AND g.occupied < g.maxEmployees")
+    int reserve(@Param("grade") int grade);
+
+    // Atomically take several seats in the grade; updates nothing if they do not all fit
+    @Modifying
+    @Query("UPDATE GradeCapacity g SET g.occupied = g.occupied + :seats " +
+            "WHERE g.grade = :grade AND g.occupied + :seats <= g.maxEmployees")
+    int reserveSeats(@Param("grade") int grade, @Param("seats") int seats);
+
+    // Atomically give back one seat in the grade
+    @Modifying
+    @Query("UPDATE GradeCapacity g SET g.occupied = g.occupied - 1 WHERE g.grade = :grade AND g.occupied > 0")
+    int release(@Param("grade") int grade);
+
+    // Lock the capacity rows of several grades, in a fixed order to avoid deadlocks
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT g FROM GradeCapacity g WHERE g.grade IN :grades ORDER BY g.grade")
+    List<GradeCapacity> lockByGrades(@Param("grades") Collection<Integer> grades);
+
+    // Apply a configured limit without touching the occupancy
+    @Modifying
+    @Query("UPDATE GradeCapacity g SET g.maxEmployees = :maxEmployees WHERE g.grade = :grade")
+    int updateMaxEmployees(@Param("grade") int grade, @Param("maxEmployees") int maxEmployees);
+}
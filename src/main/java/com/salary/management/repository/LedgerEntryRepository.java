@@ -0,0 +1,56 @@
+package com.salary.management.repository;
+
+import com.salary.management.entity.LedgerAccountType;
+import com.salary.management.entity.LedgerEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Repository
+public interface LedgerEntryRepository extends JpaRepository<LedgerEntry, Long> {
+
+    // Snapshot balance plus the entries not yet compacted, in one statement so both come from the same database snapshot
+    @Query(value = "SELECT COALESCE((SELECT s.balance FROM ledger_snapshots s " +
+            "WHERE s.account_type = :accountType AND s.account_number = :accountNumber), 0) + " +
+            "COALESCE((SELECT SUM(CASE WHEN e.entry_type = 'CREDIT' THEN e.amount ELSE -e.amount END) " +
+            "FROM ledger_entries e WHERE e.account_type = :accountType AND e.account_number = :accountNumber " +
+            "AND e.compaction_run IS NULL), 0)", nativeQuery = true)
+    BigDecimal findBalance(@Param("accountType") String accountType, @Param("accountNumber") String accountNumber);
+
+    // Lowest ID of an entry not yet compacted; only committed entries are visible, whatever their ID
+    @Query("SELECT MIN(e.id) FROM LedgerEntry e WHERE e.compactionRun IS NULL")
+    Long findMinUncompactedId();
+
+    // Claims the visible, unclaimed entries in [fromId, toId) for one compaction run
+    @Modifying
+    @Query("UPDATE LedgerEntry e SET e.compactionRun = :run " +
+            "WHERE e.compactionRun IS NULL AND e.id >= :fromId AND e.id < :toId")
+    int claimForCompaction(@Param("run") String run, @Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    // Claims every entry up to the ID watermark of the snapshots written before entries were claimed
+    @Modifying
+    @Query("UPDATE LedgerEntry e SET e.compactionRun = :run WHERE e.compactionRun IS NULL AND e.id <= :watermark")
+    int claimUpToWatermark(@Param("run") String run, @Param("watermark") Long watermark);
+
+    // Whether any entry has been claimed by a compaction run
+    boolean existsByCompactionRunIsNotNull();
+
+    // Net balance change per account, and the highest entry ID, of the entries claimed by one run
+    @Query("SELECT e.accountType AS accountType, e.accountNumber AS accountNumber, " +
+            "SUM(CASE WHEN e.entryType = com.salary.management.entity.LedgerEntryType.CREDIT " +
+            "THEN e.amount ELSE -e.amount END) AS delta, MAX(e.id) AS lastEntryId FROM LedgerEntry e " +
+            "WHERE e.compactionRun = :run GROUP BY e.accountType, e.accountNumber")
+    List<BalanceDelta> sumBalanceDeltas(@Param("run") String run);
+
+    interface BalanceDelta {
+        LedgerAccountType getAccountType();
+        String getAccountNumber();
+        BigDecimal getDelta();
+        Long getLastEntryId();
+    }
+}
@@ -0,0 +1,18 @@
+package com.salary.management.repository;
+
+import com.salary.management.entity.LedgerAccountType;
+import com.salary.management.entity.LedgerSnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface LedgerSnapshotRepository extends JpaRepository<LedgerSnapshot, Long> {
+    Optional<LedgerSnapshot> findByAccountTypeAndAccountNumber(LedgerAccountType accountType, String accountNumber);
+
+    // Highest folded entry ID; covers every lower ID only for snapshots written before entries were claimed
+    @Query("SELECT COALESCE(MAX(s.lastEntryId), 0) FROM LedgerSnapshot s")
+    Long findCompactionWatermark();
+}
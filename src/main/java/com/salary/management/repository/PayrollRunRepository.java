@@ -0,0 +1,9 @@
+package com.salary.management.repository;
+
+import com.salary.management.entity.PayrollRun;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface PayrollRunRepository extends JpaRepository<PayrollRun, Long> {
+}
@@ -0,0 +1,15 @@
+package com.salary.management.repository.reactive;
+
+import com.salary.management.entity.view.BankAccountView;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Repository
+public interface ReactiveBankAccountRepository extends R2dbcRepository<BankAccountView, Long> {
+    Mono<BankAccountView> findByAccountNumberAndAccountName(String accountNumber, String accountName);
+
+    // All accounts after the given primary key, in key order
+    Flux<BankAccountView> findByIdGreaterThanOrderByIdAsc(Long id);
+}
@@ -0,0 +1,15 @@
+package com.salary.management.repository.reactive;
+
+import com.salary.management.entity.view.CompanyAccountView;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Repository
+public interface ReactiveCompanyAccountRepository extends R2dbcRepository<CompanyAccountView, Long> {
+    Mono<CompanyAccountView> findByAccountNumberAndAccountName(String accountNumber, String accountName);
+
+    // All accounts after the given primary key, in key order
+    Flux<CompanyAccountView> findByIdGreaterThanOrderByIdAsc(Long id);
+}
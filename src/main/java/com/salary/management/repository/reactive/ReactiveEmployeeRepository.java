@@ -0,0 +1,23 @@
+package com.salary.management.repository.reactive;
+
+import com.salary.management.entity.view.EmployeeView;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Repository
+public interface ReactiveEmployeeRepository extends R2dbcRepository<EmployeeView, Long> {
+    String SELECT_EMPLOYEE_VIEW = "SELECT e.id, e.employee_id, e.name, e.grade, e.address, e.mobile_number, " +
+            "b.account_name, b.account_number, b.current_balance, b.bank_name, b.branch_name, b.account_type " +
+            "FROM employees e JOIN bank_accounts b ON b.id = e.bank_account_id ";
+
+    // Find an employee by their unique employee ID, with the bank account in the same query
+    @Query(SELECT_EMPLOYEE_VIEW + "WHERE e.employee_id = :employeeId")
+    Mono<EmployeeView> findByEmployeeId(String employeeId);
+
+    // All employees after the given primary key, in key order; rows are pulled as the subscriber requests them
+    @Query(SELECT_EMPLOYEE_VIEW + "WHERE e.id > :afterId ORDER BY e.id")
+    Flux<EmployeeView> streamAfter(Long afterId);
+}
@@ -0,0 +1,79 @@
+package com.salary.management.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import org.springframework.http.HttpStatus;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.salary.management.utils.Constants.Response.DATA_KEY;
+import static com.salary.management.utils.Constants.Response.MESSAGE_KEY;
+import static com.salary.management.utils.Constants.Response.META_DATA;
+import static com.salary.management.utils.Constants.Response.STATUS_CODE;
+import static com.salary.management.utils.Constants.Response.STATUS_KEY;
+
+/**
+ * Typed response envelope: a meta section with the status and message, and the optional data.
+ * Being a concrete type, Jackson resolves its serializer once per data type instead of
+ * inspecting every map value at runtime. The meta section is immutable and cached per
+ * (status, message) pair, so a response allocates only the envelope itself.
+ *
+ * @param <T> the type of the data
+ */
+@JsonPropertyOrder({META_DATA, DATA_KEY})
+public record ApiResponse<T>(
+        @JsonProperty(META_DATA) Meta meta,
+        @JsonProperty(DATA_KEY) @JsonInclude(JsonInclude.Include.NON_NULL) T data) {
+
+    public static <T> ApiResponse<T> of(HttpStatus status, String message, T data) {
+        return new ApiResponse<>(Meta.of(status, message), data);
+    }
+
+    /**
+     * Status and message of a response.
+     */
+    @JsonPropertyOrder({STATUS_KEY, STATUS_CODE, MESSAGE_KEY})
+    public record Meta(
+            @JsonProperty(STATUS_KEY) HttpStatus status,
+            @JsonProperty(STATUS_CODE) int code,
+            @JsonProperty(MESSAGE_KEY) String message) {
+
+        // Messages are string literals, so the cache stays small; the cap only guards against misuse
+        private static final int MAX_CACHED_MESSAGES_PER_STATUS = 256;
+        private static final Map<HttpStatus, Map<String, Meta>> CACHE = buildCache();
+
+        /**
+         * Returns the shared meta section for the status and message.
+         *
+         * @param status  The HTTP status reported in the meta section.
+         * @param message The response message.
+         * @return The cached Meta, created on first use.
+         */
+        public static Meta of(HttpStatus status, String message) {
+            Map<String, Meta> byMessage = CACHE.get(status);
+            Meta meta = byMessage.get(message);
+            if (meta != null) {
+                return meta;
+            }
+
+            meta = new Meta(status, status.value(), message);
+            if (byMessage.size() < MAX_CACHED_MESSAGES_PER_STATUS) {
+                Meta existing = byMessage.putIfAbsent(message, meta);
+                return existing != null ? existing : meta;
+            }
+            return meta;
+        }
+
+        private static Map<HttpStatus, Map<String, Meta>> buildCache() {
+            Map<HttpStatus, Map<String, Meta>> cache = new EnumMap<>(HttpStatus.class);
+            for (HttpStatus status : HttpStatus.values()) {
+                cache.put(status, new ConcurrentHashMap<>());
+            }
+            return Collections.unmodifiableMap(cache);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.salary.management.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Response wrapper for batch lookups: the resolved items keyed by the requested ID,
+ * in request order, and the requested IDs that did not match anything.
+ *
+ * @param <T> the type of the resolved items
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class BatchGetResponse<T> {
+    private Map<String, T> found = new LinkedHashMap<>();
+    private List<String> notFound = new ArrayList<>();
+
+    /**
+     * Arranges resolved items in the order of the requested IDs; duplicate IDs are reported once.
+     *
+     * @param requestedIds The IDs as requested.
+     * @param resolved     The items that were found, keyed by ID.
+     * @param <T>          The type of the resolved items.
+     * @return The batch response.
+     */
+    public static <T> BatchGetResponse<T> of(List<String> requestedIds, Map<String, T> resolved) {
+        BatchGetResponse<T> response = new BatchGetResponse<>();
+        for (String id : requestedIds) {
+            T item = resolved.get(id);
+            if (item != null) {
+                response.getFound().putIfAbsent(id, item);
+            } else if (!response.getNotFound().contains(id)) {
+                response.getNotFound().add(id);
+            }
+        }
+        return response;
+    }
+}
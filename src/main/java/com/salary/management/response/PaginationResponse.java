@@ -5,16 +5,16 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 /**
- * Represents the pagination details for paginated responses.
+ * Represents the pagination details for keyset (cursor) paginated responses.
+ * Pass {@code nextCursor} back as the {@code cursor} request parameter to fetch the following page.
  */
 @Data
 @AllArgsConstructor
 @NoArgsConstructor
 public class PaginationResponse {
-    private int pageNumber;
     private int pageSize;
-    private long totalElements;
-    private int totalPages;
+    private Long cursor;
+    private Long nextCursor;
     private boolean hasNext;
     private boolean hasPrevious;
-}
\ No newline at end of file
+}
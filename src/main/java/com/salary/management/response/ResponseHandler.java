@@ -3,15 +3,6 @@ package com.salary.management.response;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
-import java.util.HashMap;
-import java.util.Map;
-
-import static com.salary.management.utils.Constants.Response.DATA_KEY;
-import static com.salary.management.utils.Constants.Response.MESSAGE_KEY;
-import static com.salary.management.utils.Constants.Response.META_DATA;
-import static com.salary.management.utils.Constants.Response.STATUS_CODE;
-import static com.salary.management.utils.Constants.Response.STATUS_KEY;
-
 /**
  * Utility class for generating consistent API responses.
  */
@@ -22,27 +13,16 @@ public class ResponseHandler {
 
     /**
      * Generates a structured API response with metadata and optional data.
+     * The HTTP status of the response is always 200; the given status is reported in the meta section.
      *
      * @param message     The response message.
      * @param status      The HTTP status.
      * @param responseObj The response data (optional).
+     * @param <T>         The type of the response data.
      * @return A ResponseEntity containing the structured response.
      */
-    public static ResponseEntity<Object> generateResponse(String message, HttpStatus status, Object responseObj) {
-        Map<String, Object> response = new HashMap<String, Object>();
-        Map<String, Object> meta = new HashMap<String, Object>();
-
-        meta.put(STATUS_KEY, status);
-        meta.put(STATUS_CODE, status.value());
-        meta.put(MESSAGE_KEY, message);
-
-        response.put(META_DATA, meta);
-
-        if(responseObj != null){
-            response.put(DATA_KEY, responseObj);
-        }
-
-        return new ResponseEntity<Object>(response, HttpStatus.OK);
+    public static <T> ResponseEntity<ApiResponse<T>> generateResponse(String message, HttpStatus status, T responseObj) {
+        return ResponseEntity.ok(ApiResponse.of(status, message, responseObj));
     }
 
 
@@ -53,7 +33,7 @@ public class ResponseHandler {
      * @param status  The HTTP status.
      * @return A ResponseEntity containing the structured response.
      */
-    public static ResponseEntity<Object> generateResponse(String message, HttpStatus status) {
+    public static ResponseEntity<ApiResponse<Void>> generateResponse(String message, HttpStatus status) {
         return generateResponse(message, status, null);
     }
-}
\ No newline at end of file
+}
@@ -1,9 +1,13 @@
 package com.salary.management.service;
 
+import com.salary.management.dto.BankAccount.BankAccountBulkRequestDTO;
+import com.salary.management.dto.BankAccount.BankAccountBulkResponseDTO;
 import com.salary.management.dto.BankAccount.BankAccountRequestDTO;
 import com.salary.management.dto.BankAccount.BankAccountResponseDTO;
 import com.salary.management.dto.BankAccount.BankAccountSearchRequestDTO;
 import com.salary.management.dto.BankAccount.BankAccountUpdateRequestDTO;
+import com.salary.management.response.BatchGetResponse;
+import com.salary.management.response.CustomResponse;
 
 import java.util.List;
 
@@ -16,6 +20,14 @@ public interface IBankAccountService {
      */
     BankAccountResponseDTO createBankAccount(BankAccountRequestDTO bankAccountRequestDto);
 
+    /**
+     * Creates many bank accounts in one transaction.
+     *
+     * @param bulkRequestDto The accounts to create and how invalid items are handled.
+     * @return BankAccountBulkResponseDTO with one result per requested account, in request order.
+     */
+    BankAccountBulkResponseDTO createBankAccounts(BankAccountBulkRequestDTO bulkRequestDto);
+
     /**
      * Retrieves a bank account based on account number and account name.
      *
@@ -25,12 +37,21 @@ public interface IBankAccountService {
     BankAccountResponseDTO getBankAccountByAccountDetails(BankAccountSearchRequestDTO searchRequestDto);
 
     /**
-     * Retrieves all bank accounts from the database.
+     * Retrieves many bank accounts by account number at once.
      *
-     * @return List of BankAccountResponseDTO containing all bank accounts.
+     * @param accountNumbers The account numbers to look up.
+     * @return BatchGetResponse with the accounts keyed by account number and the numbers that were not found.
      */
+    BatchGetResponse<BankAccountResponseDTO> getBankAccountsByNumbers(List<String> accountNumbers);
 
-    List<BankAccountResponseDTO> getAllBankAccounts();
+    /**
+     * Retrieves one keyset page of bank accounts.
+     *
+     * @param cursor The cursor returned with the previous page (optional).
+     * @param size   The requested page size (optional).
+     * @return CustomResponse containing the page of bank accounts and its pagination details.
+     */
+    CustomResponse<BankAccountResponseDTO> getAllBankAccounts(Long cursor, Integer size);
 
     /**
      * Updates an existing bank account.
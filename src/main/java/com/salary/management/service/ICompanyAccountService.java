@@ -2,8 +2,7 @@ package com.salary.management.service;
 
 import com.salary.management.dto.CompanyAccount.*;
 import com.salary.management.dto.Salary.TransferRequestDTO;
-
-import java.util.List;
+import com.salary.management.response.CustomResponse;
 
 /**
  * Interface for managing bank company account operations.
@@ -42,11 +41,13 @@ public interface ICompanyAccountService{
     void deleteCompanyAccount(CompanyAccountSearchRequestDTO dto);
 
     /**
-     * Retrieves all company accounts.
+     * Retrieves one keyset page of company accounts.
      *
-     * @return List of CompanyAccountResponseDTO containing the details of all company accounts.
+     * @param cursor The cursor returned with the previous page (optional).
+     * @param size   The requested page size (optional).
+     * @return CustomResponse containing the page of company accounts and its pagination details.
      */
-    List<CompanyAccountResponseDTO> getAllCompanyAccounts();
+    CustomResponse<CompanyAccountResponseDTO> getAllCompanyAccounts(Long cursor, Integer size);
 
     /**
      * Adds funds to a company account.
@@ -0,0 +1,23 @@
+package com.salary.management.service;
+
+import com.salary.management.logic.EmployeeImportReader;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * Interface for bulk employee imports.
+ */
+public interface IEmployeeImportService {
+
+    /**
+     * Imports employees from a CSV or NDJSON body, writing one NDJSON result per row as batches complete.
+     *
+     * @param input  The import body.
+     * @param format The format of the import body.
+     * @param output The stream the per-row results are written to.
+     * @throws IOException if the body cannot be read or the results cannot be written.
+     */
+    void importEmployees(InputStream input, EmployeeImportReader.Format format, OutputStream output) throws IOException;
+}
@@ -3,6 +3,8 @@ package com.salary.management.service;
 import com.salary.management.dto.Employee.EmployeeRequestDTO;
 import com.salary.management.dto.Employee.EmployeeResponseDTO;
 import com.salary.management.dto.Employee.EmployeeUpdateRequestDTO;
+import com.salary.management.response.BatchGetResponse;
+import com.salary.management.response.CustomResponse;
 
 import java.util.List;
 
@@ -27,11 +29,21 @@ public interface IEmployeeService {
     EmployeeResponseDTO getEmployeeById(String employeeId);
 
     /**
-     * Retrieve all employees.
+     * Retrieve many employees by their employee IDs at once.
      *
-     * @return List<EmployeeResponseDTO> A list containing the response DTOs of all employees.
+     * @param employeeIds The employee IDs to look up.
+     * @return BatchGetResponse with the employees keyed by employee ID and the IDs that were not found.
      */
-    List<EmployeeResponseDTO> getAllEmployees();
+    BatchGetResponse<EmployeeResponseDTO> getEmployeesByIds(List<String> employeeIds);
+
+    /**
+     * Retrieve one keyset page of employees.
+     *
+     * @param cursor The cursor returned with the previous page (optional).
+     * @param size   The requested page size (optional).
+     * @return CustomResponse containing the page of employees and its pagination details.
+     */
+    CustomResponse<EmployeeResponseDTO> getAllEmployees(Long cursor, Integer size);
 
     /**
      * Deletes an employee using their employee ID.
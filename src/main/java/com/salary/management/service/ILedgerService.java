@@ -0,0 +1,55 @@
+package com.salary.management.service;
+
+import com.salary.management.dto.Ledger.LedgerBalanceResponseDTO;
+import com.salary.management.dto.Ledger.LedgerTransferDTO;
+import com.salary.management.entity.LedgerAccountType;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Interface for the append-only double-entry transaction ledger.
+ */
+public interface ILedgerService {
+
+    /**
+     * Appends the debit and credit entries of one transfer.
+     * Must be called inside the transaction that moves the balances.
+     *
+     * @param transfer The accounts, amount and reference of the transfer.
+     */
+    void recordTransfer(LedgerTransferDTO transfer);
+
+    /**
+     * Appends the debit and credit entries of several transfers in one write.
+     * Must be called inside the transaction that moves the balances.
+     *
+     * @param transfers The transfers to record.
+     */
+    void recordTransfers(List<LedgerTransferDTO> transfers);
+
+    /**
+     * Records the balance an account had before the ledger existed, at most once per account.
+     *
+     * @param accountType   The kind of account.
+     * @param accountNumber The account number.
+     * @param missing       The account balance minus its ledger balance; negative if the ledger is ahead.
+     */
+    void recordOpeningBalance(LedgerAccountType accountType, String accountNumber, BigDecimal missing);
+
+    /**
+     * Returns the ledger balance of an account: its snapshot plus the entries not yet folded into it.
+     *
+     * @param accountType   The kind of account.
+     * @param accountNumber The account number.
+     * @return LedgerBalanceResponseDTO containing the account balance.
+     */
+    LedgerBalanceResponseDTO getBalance(LedgerAccountType accountType, String accountNumber);
+
+    /**
+     * Folds committed ledger entries into the per-account balance snapshots.
+     *
+     * @return The number of snapshots created or updated.
+     */
+    int compactSnapshots();
+}
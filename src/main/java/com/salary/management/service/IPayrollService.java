@@ -0,0 +1,24 @@
+package com.salary.management.service;
+
+import com.salary.management.dto.Salary.PayrollRunRequestDTO;
+import com.salary.management.dto.Salary.PayrollRunResponseDTO;
+
+/**
+ * Interface for running bulk payroll from a company account.
+ */
+public interface IPayrollService {
+
+    /**
+     * Pays every employee (or the requested subset) from the given company account.
+     * Employees are processed in chunks; each chunk is paid in its own transaction.
+     * A run is accepted only once per idempotency key.
+     *
+     * @param companyAccountNumber The company account to debit.
+     * @param idempotencyKey       Client-chosen key identifying this run.
+     * @param request              Optional filter and chunk size; may be null.
+     * @return PayrollRunResponseDTO with the per-employee payment results.
+     * @throws CustomException if the key is invalid, the company account does not exist,
+     *                         or a run with the same key was already submitted
+     */
+    PayrollRunResponseDTO runPayroll(String companyAccountNumber, String idempotencyKey, PayrollRunRequestDTO request);
+}
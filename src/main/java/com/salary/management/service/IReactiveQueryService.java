@@ -0,0 +1,62 @@
+package com.salary.management.service;
+
+import com.salary.management.dto.BankAccount.BankAccountResponseDTO;
+import com.salary.management.dto.BankAccount.BankAccountSearchRequestDTO;
+import com.salary.management.dto.CompanyAccount.CompanyAccountResponseDTO;
+import com.salary.management.dto.CompanyAccount.CompanyAccountSearchRequestDTO;
+import com.salary.management.dto.Employee.EmployeeResponseDTO;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Interface for the non-blocking, read-only lookups served from R2DBC.
+ */
+public interface IReactiveQueryService {
+    /**
+     * Retrieve an employee by their employee ID.
+     *
+     * @param employeeId The unique ID of the employee.
+     * @return Mono emitting the employee's details, or a NOT_FOUND CustomException.
+     */
+    Mono<EmployeeResponseDTO> getEmployeeById(String employeeId);
+
+    /**
+     * Stream employees in primary key order.
+     *
+     * @param cursor Only employees after this position are streamed (optional).
+     * @return Flux of employees, read from the database as the client consumes them.
+     */
+    Flux<EmployeeResponseDTO> streamEmployees(Long cursor);
+
+    /**
+     * Retrieve a bank account by account number and account name.
+     *
+     * @param searchRequestDto The search criteria.
+     * @return Mono emitting the bank account, or a NOT_FOUND CustomException.
+     */
+    Mono<BankAccountResponseDTO> getBankAccountByAccountDetails(BankAccountSearchRequestDTO searchRequestDto);
+
+    /**
+     * Stream bank accounts in primary key order.
+     *
+     * @param cursor Only accounts after this position are streamed (optional).
+     * @return Flux of bank accounts, read from the database as the client consumes them.
+     */
+    Flux<BankAccountResponseDTO> streamBankAccounts(Long cursor);
+
+    /**
+     * Retrieve a company account by account number and account name.
+     *
+     * @param searchRequestDto The search criteria.
+     * @return Mono emitting the company account, or a NOT_FOUND CustomException.
+     */
+    Mono<CompanyAccountResponseDTO> getCompanyAccountByDetails(CompanyAccountSearchRequestDTO searchRequestDto);
+
+    /**
+     * Stream company accounts in primary key order.
+     *
+     * @param cursor Only accounts after this position are streamed (optional).
+     * @return Flux of company accounts, read from the database as the client consumes them.
+     */
+    Flux<CompanyAccountResponseDTO> streamCompanyAccounts(Long cursor);
+}
@@ -1,35 +1,68 @@
 package com.salary.management.service.impl;
 
+import com.salary.management.dto.BankAccount.BankAccountBulkRequestDTO;
+import com.salary.management.dto.BankAccount.BankAccountBulkRequestDTO.BulkMode;
+import com.salary.management.dto.BankAccount.BankAccountBulkResponseDTO;
+import com.salary.management.dto.BankAccount.BankAccountBulkResponseDTO.AccountResult;
+import com.salary.management.dto.BankAccount.BankAccountBulkResponseDTO.ResultStatus;
 import com.salary.management.dto.BankAccount.BankAccountRequestDTO;
 import com.salary.management.dto.BankAccount.BankAccountResponseDTO;
 import com.salary.management.dto.BankAccount.BankAccountSearchRequestDTO;
 import com.salary.management.dto.BankAccount.BankAccountUpdateRequestDTO;
 import com.salary.management.entity.BankAccount;
 import com.salary.management.exception.CustomException;
+import com.salary.management.logic.AccountNumberGenerator;
 import com.salary.management.mapper.BankAccountMapper;
 import com.salary.management.repository.BankAccountRepository;
+import com.salary.management.response.BatchGetResponse;
+import com.salary.management.response.CustomResponse;
 import com.salary.management.service.IBankAccountService;
+import com.salary.management.utils.LogSampler;
+import com.salary.management.utils.PaginationUtils;
+import io.micrometer.core.annotation.Timed;
+import jakarta.transaction.Transactional;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
-import static com.salary.management.logic.BankAccountLogic.generateUniqueAccountNumber;
+import static com.salary.management.utils.Constants.Logging.HOT_PATH_SAMPLE_INTERVAL;
+import static com.salary.management.utils.Constants.Metrics.SERVICE_OPERATION;
 
 /**
  * Service implementation for managing bank account operations.
  */
 @Service
+@Timed(value = SERVICE_OPERATION, histogram = true)
 public class BankAccountService implements IBankAccountService {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(BankAccountService.class);
+    // Per-call hot paths log one sampled line per interval instead of one line per call
+    private static final LogSampler LOOKUP_LOG_SAMPLER = new LogSampler(HOT_PATH_SAMPLE_INTERVAL);
     private final BankAccountRepository bankAccountRepository;
+    private final AccountNumberGenerator accountNumberGenerator;
+    private final Validator validator;
+    private final BulkMode defaultBulkMode;
 
-    public BankAccountService(BankAccountRepository bankAccountRepository) {
+    public BankAccountService(BankAccountRepository bankAccountRepository,
+                              AccountNumberGenerator accountNumberGenerator,
+                              Validator validator,
+                              @Value("${bank-account.bulk.default-mode:ALL_OR_NOTHING}") BulkMode defaultBulkMode) {
         this.bankAccountRepository = bankAccountRepository;
+        this.accountNumberGenerator = accountNumberGenerator;
+        this.validator = validator;
+        this.defaultBulkMode = defaultBulkMode;
     }
 
     /**
@@ -46,7 +79,7 @@ public class BankAccountService implements IBankAccountService {
         BankAccount bankAccount = BankAccountMapper.toEntity(bankAccountRequestDto);
 
         // Set a unique account number
-        bankAccount.setAccountNumber(generateUniqueAccountNumber());
+        bankAccount.setAccountNumber(accountNumberGenerator.nextAccountNumber());
 
         // Save entity
         BankAccount savedAccount = bankAccountRepository.save(bankAccount);
@@ -56,6 +89,91 @@ public class BankAccountService implements IBankAccountService {
         return BankAccountMapper.toResponseDto(savedAccount);
     }
 
+    /**
+     * Creates many bank accounts in one transaction.
+     *
+     * Every item is validated first. In ALL_OR_NOTHING mode an invalid item rejects the whole
+     * request; in BEST_EFFORT mode it is reported as failed and the valid items are still created.
+     * Account numbers for all valid items are taken from the generator in one call, and the
+     * accounts are inserted with Hibernate JDBC batching.
+     *
+     * @param bulkRequestDto The accounts to create and how invalid items are handled.
+     * @return BankAccountBulkResponseDTO with one result per requested account, in request order.
+     * @throws CustomException if an item is invalid in ALL_OR_NOTHING mode.
+     */
+    @Override
+    @Transactional
+    public BankAccountBulkResponseDTO createBankAccounts(BankAccountBulkRequestDTO bulkRequestDto) {
+        BulkMode mode = bulkRequestDto.getMode() != null ? bulkRequestDto.getMode() : defaultBulkMode;
+        List<BankAccountRequestDTO> requests = bulkRequestDto.getAccounts();
+        LOGGER.info("Creating {} bank accounts in {} mode", requests.size(), mode);
+
+        BankAccountBulkResponseDTO response = new BankAccountBulkResponseDTO();
+        response.setMode(mode);
+
+        // Convert valid items, keeping a placeholder result for each in request order
+        List<BankAccount> accounts = new ArrayList<>(requests.size());
+        List<AccountResult> createdResults = new ArrayList<>(requests.size());
+        for (int i = 0; i < requests.size(); i++) {
+            String error = validate(requests.get(i));
+            BankAccount account = null;
+            if (error == null) {
+                try {
+                    account = BankAccountMapper.toEntity(requests.get(i));
+                } catch (CustomException e) {
+                    error = e.getMessage();
+                }
+            }
+
+            if (error != null) {
+                if (mode == BulkMode.ALL_OR_NOTHING) {
+                    LOGGER.warn("Bulk bank account request rejected, item {} is invalid: {}", i, error);
+                    throw new CustomException(HttpStatus.BAD_REQUEST, "Account at index " + i + " is invalid: " + error);
+                }
+                response.getResults().add(new AccountResult(i, ResultStatus.FAILED, null, error));
+                response.setFailedCount(response.getFailedCount() + 1);
+                continue;
+            }
+
+            AccountResult result = new AccountResult(i, ResultStatus.CREATED, null, null);
+            response.getResults().add(result);
+            createdResults.add(result);
+            accounts.add(account);
+        }
+
+        if (!accounts.isEmpty()) {
+            List<String> accountNumbers = accountNumberGenerator.nextAccountNumbers(accounts.size());
+            for (int k = 0; k < accounts.size(); k++) {
+                accounts.get(k).setAccountNumber(accountNumbers.get(k));
+                createdResults.get(k).setAccountNumber(accountNumbers.get(k));
+            }
+            bankAccountRepository.saveAll(accounts);
+        }
+        response.setCreatedCount(accounts.size());
+
+        LOGGER.info("Bulk bank account request finished. Created: {}, Failed: {}",
+                response.getCreatedCount(), response.getFailedCount());
+        return response;
+    }
+
+    /**
+     * Runs the Jakarta constraints of BankAccountRequestDTO.
+     *
+     * @return The violation messages, or null if the request is valid.
+     */
+    private String validate(BankAccountRequestDTO request) {
+        if (request == null) {
+            return "Account details are required";
+        }
+        Set<ConstraintViolation<BankAccountRequestDTO>> violations = validator.validate(request);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(ConstraintViolation::getMessage)
+                .sorted()
+                .collect(Collectors.joining("; "));
+    }
 
     /**
      * Retrieves a bank account based on account number and account name.
@@ -66,7 +184,7 @@ public class BankAccountService implements IBankAccountService {
      */
     @Override
     public BankAccountResponseDTO getBankAccountByAccountDetails(BankAccountSearchRequestDTO searchRequestDto) {
-        LOGGER.info("Searching for bank account with account number: {} and account name: {}",
+        LOGGER.debug("Searching for bank account with account number: {} and account name: {}",
                 searchRequestDto.getAccountNumber(), searchRequestDto.getAccountName());
 
         BankAccount bankAccount = bankAccountRepository.findByAccountNumberAndAccountName(
@@ -77,24 +195,50 @@ public class BankAccountService implements IBankAccountService {
             throw new CustomException(HttpStatus.NOT_FOUND,"Bank account not found with the provided details");
         }
 
-        LOGGER.info("Bank account found: {}", bankAccount.getAccountNumber());
+        if (LOOKUP_LOG_SAMPLER.tryAcquire()) {
+            LOGGER.info("Bank account found: {} ({} more lookups since the last report)",
+                    bankAccount.getAccountNumber(), LOOKUP_LOG_SAMPLER.drainSuppressed());
+        }
         return BankAccountMapper.toResponseDto(bankAccount);
     }
 
     /**
-     * Retrieves all bank accounts from the database.
+     * Retrieves many bank accounts with a single IN query.
+     *
+     * @param accountNumbers The account numbers to look up.
+     * @return BatchGetResponse with the accounts keyed by account number, in request order.
+     */
+    @Override
+    public BatchGetResponse<BankAccountResponseDTO> getBankAccountsByNumbers(List<String> accountNumbers) {
+        LOGGER.debug("Fetching {} bank accounts by account number", accountNumbers.size());
+
+        Map<String, BankAccountResponseDTO> resolved = new HashMap<>();
+        for (BankAccount account : bankAccountRepository.findByAccountNumberIn(new LinkedHashSet<>(accountNumbers))) {
+            resolved.put(account.getAccountNumber(), BankAccountMapper.toResponseDto(account));
+        }
+
+        BatchGetResponse<BankAccountResponseDTO> response = BatchGetResponse.of(accountNumbers, resolved);
+        LOGGER.info("Bank accounts found: {}, not found: {}", response.getFound().size(), response.getNotFound().size());
+        return response;
+    }
+
+    /**
+     * Retrieves one keyset page of bank accounts, seeking on the primary key.
      *
-     * @return List of BankAccountResponseDTO containing all bank accounts.
+     * @param cursor The cursor returned with the previous page (optional).
+     * @param size   The requested page size (optional).
+     * @return CustomResponse containing the page of bank accounts and its pagination details.
      */
     @Override
-    public List<BankAccountResponseDTO> getAllBankAccounts() {
-        LOGGER.info("Fetching all bank accounts from the database.");
-        List<BankAccount> accounts = bankAccountRepository.findAll();
-
-        LOGGER.info("Total bank accounts retrieved: {}", accounts.size());
-        return accounts.stream()
-                .map(BankAccountMapper::toResponseDto)
-                .collect(Collectors.toList());
+    public CustomResponse<BankAccountResponseDTO> getAllBankAccounts(Long cursor, Integer size) {
+        int pageSize = PaginationUtils.resolvePageSize(size);
+        LOGGER.debug("Fetching bank accounts after cursor: {} with page size: {}", cursor, pageSize);
+
+        List<BankAccount> accounts = bankAccountRepository.findByIdGreaterThanOrderByIdAsc(
+                PaginationUtils.resolveCursor(cursor), PaginationUtils.fetchLimit(pageSize));
+
+        LOGGER.info("Bank accounts retrieved for page: {}", Math.min(accounts.size(), pageSize));
+        return PaginationUtils.toPage(accounts, cursor, pageSize, BankAccount::getId, BankAccountMapper::toResponseDto);
     }
 
 
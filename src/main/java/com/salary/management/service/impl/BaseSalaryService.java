@@ -6,21 +6,30 @@ import com.salary.management.dto.Salary.SalaryCalculationRequestDTO;
 import com.salary.management.dto.Salary.SalaryResponseDTO;
 import com.salary.management.entity.BaseSalary;
 import com.salary.management.exception.CustomException;
+import com.salary.management.logic.GradeSalaryTable.GradeSalary;
 import com.salary.management.logic.SalaryLogic;
 import com.salary.management.mapper.SalaryMapper;
 import com.salary.management.repository.BaseSalaryRepository;
 import com.salary.management.service.IBaseSalaryService;
+import com.salary.management.utils.Money;
+import io.micrometer.core.annotation.Timed;
+import jakarta.transaction.Transactional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.Objects;
 
+import static com.salary.management.utils.Constants.Metrics.SERVICE_OPERATION;
+
 /**
  * Service implementation for managing salary operations.
  */
 @Service
+@Timed(value = SERVICE_OPERATION, histogram = true)
 public class BaseSalaryService implements IBaseSalaryService {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(BaseSalaryService.class);
@@ -36,11 +45,14 @@ public class BaseSalaryService implements IBaseSalaryService {
 
     /**
      * Sets the base salary for the lowest grade.
+     * The in-memory grade salary table of this node is rebuilt once the new amount is committed;
+     * other nodes pick it up within {@code salary.grade-table.refresh-ms}.
      *
      * @param requestDTO The request DTO containing the base salary amount.
      * @return The response DTO containing the saved base salary details.
      */
     @Override
+    @Transactional
     public BaseSalaryResponseDTO setBaseSalary(BaseSalaryRequestDTO requestDTO) {
         LOGGER.info("Setting base salary with amount: {}", requestDTO.getAmount());
 
@@ -60,6 +72,15 @@ public class BaseSalaryService implements IBaseSalaryService {
 
         LOGGER.info("Base salary saved/updated successfully with ID: {}", savedBaseSalary.getId());
 
+        // Rebuild the grade salary table only after the new amount is visible to other transactions
+        Money committedAmount = Money.of(savedBaseSalary.getAmount());
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                salaryLogic.rebuildGradeSalaryTable(committedAmount);
+            }
+        });
+
         // Convert entity to response DTO
         return SalaryMapper.toResponseDTO(savedBaseSalary);
     }
@@ -72,7 +93,7 @@ public class BaseSalaryService implements IBaseSalaryService {
      */
     @Override
     public BaseSalaryResponseDTO getBaseSalary() {
-        LOGGER.info("Fetching base salary for description: lowest_grade_salary");
+        LOGGER.debug("Fetching base salary for description: lowest_grade_salary");
 
         // Find the base salary by description
         BaseSalary baseSalary = baseSalaryRepository.findByDescription("lowest_grade_salary");
@@ -83,7 +104,7 @@ public class BaseSalaryService implements IBaseSalaryService {
             throw new CustomException(HttpStatus.NOT_FOUND, "Base salary not found for description: lowest_grade_salary");
         }
 
-        LOGGER.info("Base salary found with ID: {}", baseSalary.getId());
+        LOGGER.debug("Base salary found with ID: {}", baseSalary.getId());
 
         // Convert entity to response DTO
         return SalaryMapper.toResponseDTO(baseSalary);
@@ -97,19 +118,13 @@ public class BaseSalaryService implements IBaseSalaryService {
      */
     @Override
     public SalaryResponseDTO calculateSalaryForGrade(SalaryCalculationRequestDTO requestDTO) {
-        LOGGER.info("Starting salary calculation for grade: {}", requestDTO.getGrade());
+        LOGGER.debug("Starting salary calculation for grade: {}", requestDTO.getGrade());
 
-        double[] salaryComponents = salaryLogic.calculateSalaryComponents(requestDTO.getGrade());
-        double basicSalary = salaryComponents[0];
-        double houseRent = salaryComponents[1];
-        double medicalAllowance = salaryComponents[2];
-        double totalSalary = salaryComponents[3];
+        GradeSalary gradeSalary = salaryLogic.getSalaryForGrade(requestDTO.getGrade());
 
-        SalaryResponseDTO responseDTO = SalaryMapper.toResponseDTO(
-                requestDTO.getGrade(), basicSalary, houseRent, medicalAllowance, totalSalary
-        );
+        SalaryResponseDTO responseDTO = SalaryMapper.toResponseDTO(requestDTO.getGrade(), gradeSalary);
 
-        LOGGER.info("Salary successfully calculated for grade {}: {}", requestDTO.getGrade(), responseDTO);
+        LOGGER.debug("Salary successfully calculated for grade {}", requestDTO.getGrade());
         return responseDTO;
     }
 
@@ -1,15 +1,29 @@
 package com.salary.management.service.impl;
 
 import com.salary.management.dto.CompanyAccount.*;
+import com.salary.management.dto.Ledger.LedgerTransferDTO;
 import com.salary.management.dto.Salary.TransferRequestDTO;
 import com.salary.management.entity.CompanyAccount;
 import com.salary.management.entity.Employee;
+import com.salary.management.entity.LedgerAccountType;
 import com.salary.management.exception.CustomException;
+import com.salary.management.logic.AccountNumberGenerator;
+import com.salary.management.logic.OptimisticRetryLogic;
 import com.salary.management.logic.SalaryLogic;
 import com.salary.management.mapper.CompanyAccountMapper;
+import com.salary.management.repository.BankAccountRepository;
 import com.salary.management.repository.CompanyAccountRepository;
 import com.salary.management.repository.EmployeeRepository;
+import com.salary.management.response.CustomResponse;
 import com.salary.management.service.ICompanyAccountService;
+import com.salary.management.service.ILedgerService;
+import com.salary.management.utils.LogSampler;
+import com.salary.management.utils.Money;
+import com.salary.management.utils.PaginationUtils;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.transaction.Transactional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -18,42 +32,84 @@ import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
 import java.util.List;
-import java.util.stream.Collectors;
+
+import static com.salary.management.utils.Constants.Ledger.*;
+import static com.salary.management.utils.Constants.Logging.HOT_PATH_SAMPLE_INTERVAL;
+import static com.salary.management.utils.Constants.Metrics.*;
 
 /**
  * Service implementation for managing bank Company account operations.
+ * Salary transfers are counted by outcome and their amounts recorded as a distribution.
  */
 @Service
+@Timed(value = SERVICE_OPERATION, histogram = true)
 public class CompanyAccountService implements ICompanyAccountService {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(CompanyAccountService.class);
+    // Per-call hot paths log one sampled line per interval instead of one line per call
+    private static final LogSampler LOOKUP_LOG_SAMPLER = new LogSampler(HOT_PATH_SAMPLE_INTERVAL);
+    private static final LogSampler ADD_FUNDS_LOG_SAMPLER = new LogSampler(HOT_PATH_SAMPLE_INTERVAL);
+    private static final LogSampler TRANSFER_LOG_SAMPLER = new LogSampler(HOT_PATH_SAMPLE_INTERVAL);
     private final CompanyAccountRepository companyAccountRepository;
+    private final BankAccountRepository bankAccountRepository;
     private final EmployeeRepository employeeRepository;
     private final SalaryLogic salaryLogic;
+    private final OptimisticRetryLogic optimisticRetryLogic;
+    private final ILedgerService ledgerService;
+    private final AccountNumberGenerator accountNumberGenerator;
+    private final Counter transfersCompleted;
+    private final Counter transfersInsufficientFunds;
+    private final Counter transfersCompanyAccountNotFound;
+    private final Counter transfersEmployeeNotFound;
+    private final DistributionSummary transferAmount;
+    private final DistributionSummary fundsAdded;
 
     public CompanyAccountService(CompanyAccountRepository companyAccountRepository,
+                                 BankAccountRepository bankAccountRepository,
                                  EmployeeRepository employeeRepository,
-                                 SalaryLogic salaryLogic) {
+                                 SalaryLogic salaryLogic,
+                                 OptimisticRetryLogic optimisticRetryLogic,
+                                 ILedgerService ledgerService,
+                                 AccountNumberGenerator accountNumberGenerator,
+                                 MeterRegistry meterRegistry) {
         this.companyAccountRepository = companyAccountRepository;
+        this.bankAccountRepository = bankAccountRepository;
         this.employeeRepository = employeeRepository;
         this.salaryLogic = salaryLogic;
+        this.optimisticRetryLogic = optimisticRetryLogic;
+        this.ledgerService = ledgerService;
+        this.accountNumberGenerator = accountNumberGenerator;
+        this.transfersCompleted = transferCounter(meterRegistry, "completed");
+        this.transfersInsufficientFunds = transferCounter(meterRegistry, "insufficient_funds");
+        this.transfersCompanyAccountNotFound = transferCounter(meterRegistry, "company_account_not_found");
+        this.transfersEmployeeNotFound = transferCounter(meterRegistry, "employee_not_found");
+        this.transferAmount = amountSummary(meterRegistry, TRANSFER_AMOUNT);
+        this.fundsAdded = amountSummary(meterRegistry, FUNDS_ADDED);
     }
 
     /**
-     * Creates a new company account.
+     * Creates a new company account and records its opening balance in the ledger.
      *
      * @param dto The company account request data.
      * @return CompanyAccountResponseDTO containing the details of the created company account.
      */
     @Override
+    @Transactional
     public CompanyAccountResponseDTO createCompanyAccount(CompanyAccountRequestDTO dto) {
         LOGGER.info("Creating new company account: {}", dto.getAccountName());
 
         // Convert request DTO to entity
         CompanyAccount account = CompanyAccountMapper.toEntity(dto);
+        account.setAccountNumber(accountNumberGenerator.nextAccountNumber());
 
         // Save entity
         CompanyAccount savedAccount = companyAccountRepository.save(account);
+        if (savedAccount.getCurrentBalance().signum() > 0) {
+            ledgerService.recordTransfer(new LedgerTransferDTO(
+                    LedgerAccountType.EXTERNAL, EXTERNAL_FUNDING_ACCOUNT,
+                    LedgerAccountType.COMPANY, savedAccount.getAccountNumber(),
+                    savedAccount.getCurrentBalance(), OPENING_BALANCE));
+        }
         LOGGER.info("Company account created successfully with account number: {}", savedAccount.getAccountNumber());
 
         // Convert saved entity to response DTO
@@ -68,18 +124,23 @@ public class CompanyAccountService implements ICompanyAccountService {
      */
     @Override
     public CompanyAccountResponseDTO getCompanyAccountByDetails(CompanyAccountSearchRequestDTO dto) {
-        LOGGER.info("Fetching company account with account number: {} and account name: {}", dto.getAccountNumber(), dto.getAccountName());
+        LOGGER.debug("Fetching company account with account number: {} and account name: {}", dto.getAccountNumber(), dto.getAccountName());
 
         CompanyAccount account = companyAccountRepository.findByAccountNumberAndAccountName(dto.getAccountNumber(), dto.getAccountName());
         if (account == null) {
             LOGGER.error("Company account not found with the provided details: Account number: {} and Account name: {}", dto.getAccountNumber(), dto.getAccountName());
             throw new CustomException(HttpStatus.NOT_FOUND, "Company account not found with the provided details");
         }
+        if (LOOKUP_LOG_SAMPLER.tryAcquire()) {
+            LOGGER.info("Company account found: {} ({} more lookups since the last report)",
+                    account.getAccountNumber(), LOOKUP_LOG_SAMPLER.drainSuppressed());
+        }
         return CompanyAccountMapper.toResponseDto(account);
     }
 
     /**
      * Updates the company account details.
+     * Retried when the account version changed concurrently.
      *
      * @param dto The company account update data.
      * @return CompanyAccountResponseDTO containing the updated company account details.
@@ -88,18 +149,20 @@ public class CompanyAccountService implements ICompanyAccountService {
     public CompanyAccountResponseDTO updateCompanyAccount(CompanyAccountUpdateRequestDTO dto) {
         LOGGER.info("Updating company account with account number: {}", dto.getAccountNumber());
 
-        CompanyAccount account = companyAccountRepository.findByAccountNumber(dto.getAccountNumber());
-        if (account == null) {
-            LOGGER.error("Company account not found with the provided account number: {}", dto.getAccountNumber());
-            throw new CustomException(HttpStatus.NOT_FOUND, "Company account not found with the provided details");
-        }
+        return optimisticRetryLogic.executeWithRetry("updateCompanyAccount", () -> {
+            CompanyAccount account = companyAccountRepository.findByAccountNumber(dto.getAccountNumber());
+            if (account == null) {
+                LOGGER.error("Company account not found with the provided account number: {}", dto.getAccountNumber());
+                throw new CustomException(HttpStatus.NOT_FOUND, "Company account not found with the provided details");
+            }
 
-        // Update entity
-        CompanyAccountMapper.updateEntity(account, dto);
+            // Update entity
+            CompanyAccountMapper.updateEntity(account, dto);
 
-        // Save updated entity
-        CompanyAccount updatedAccount = companyAccountRepository.save(account);
-        return CompanyAccountMapper.toResponseDto(updatedAccount);
+            // Save updated entity; the version check happens on flush
+            CompanyAccount updatedAccount = companyAccountRepository.saveAndFlush(account);
+            return CompanyAccountMapper.toResponseDto(updatedAccount);
+        });
     }
 
     /**
@@ -122,85 +185,105 @@ public class CompanyAccountService implements ICompanyAccountService {
     }
 
     /**
-     * Retrieves all company accounts.
+     * Retrieves one keyset page of company accounts, seeking on the primary key.
      *
-     * @return List of CompanyAccountResponseDTO containing the details of all company accounts.
+     * @param cursor The cursor returned with the previous page (optional).
+     * @param size   The requested page size (optional).
+     * @return CustomResponse containing the page of company accounts and its pagination details.
      */
     @Override
-    public List<CompanyAccountResponseDTO> getAllCompanyAccounts() {
-        LOGGER.info("Fetching all company accounts.");
+    public CustomResponse<CompanyAccountResponseDTO> getAllCompanyAccounts(Long cursor, Integer size) {
+        int pageSize = PaginationUtils.resolvePageSize(size);
+        LOGGER.debug("Fetching company accounts after cursor: {} with page size: {}", cursor, pageSize);
 
-        List<CompanyAccount> accounts = companyAccountRepository.findAll();
+        List<CompanyAccount> accounts = companyAccountRepository.findByIdGreaterThanOrderByIdAsc(
+                PaginationUtils.resolveCursor(cursor), PaginationUtils.fetchLimit(pageSize));
         if (accounts.isEmpty()) {
-            LOGGER.warn("No company accounts found.");
+            LOGGER.debug("No company accounts found after cursor: {}", cursor);
         }
 
         // Convert entities to response DTOs
-        return accounts.stream()
-                .map(CompanyAccountMapper::toResponseDto)
-                .collect(Collectors.toList());
+        return PaginationUtils.toPage(accounts, cursor, pageSize, CompanyAccount::getId, CompanyAccountMapper::toResponseDto);
     }
 
+    /**
+     * Adds funds to a company account in its own transaction.
+     * Retried when the account version changed concurrently.
+     *
+     * @param addFundsRequestDto The request DTO containing the account number and the amount to add.
+     * @return true if funds were successfully added.
+     */
     @Override
     public boolean addFundsToCompanyAccount(CompanyAccountAddFundsRequestDTO addFundsRequestDto) {
-        LOGGER.info("Attempting to add funds to account: {}", addFundsRequestDto.getAccountNumber());
-
-        // Find the company account by account number
-        CompanyAccount companyAccount = companyAccountRepository.findByAccountNumber(addFundsRequestDto.getAccountNumber());
-
-        if (companyAccount == null) {
-            throw new CustomException(HttpStatus.NOT_FOUND, "Company account not found with the provided details");
+        LOGGER.debug("Attempting to add funds to account: {}", addFundsRequestDto.getAccountNumber());
+
+        BigDecimal newBalance = optimisticRetryLogic.executeWithRetry("addFundsToCompanyAccount", () -> {
+            // Find the company account by account number
+            CompanyAccount companyAccount = companyAccountRepository.findByAccountNumber(addFundsRequestDto.getAccountNumber());
+
+            if (companyAccount == null) {
+                throw new CustomException(HttpStatus.NOT_FOUND, "Company account not found with the provided details");
+            }
+
+            // Update the balance
+            BigDecimal balance = companyAccount.getCurrentBalance().add(addFundsRequestDto.getAmount());
+            companyAccount.setCurrentBalance(balance);
+
+            // Save the updated company account; the version check happens on flush
+            companyAccountRepository.saveAndFlush(companyAccount);
+            ledgerService.recordTransfer(new LedgerTransferDTO(
+                    LedgerAccountType.EXTERNAL, EXTERNAL_FUNDING_ACCOUNT,
+                    LedgerAccountType.COMPANY, companyAccount.getAccountNumber(),
+                    addFundsRequestDto.getAmount(), ADD_FUNDS));
+            return balance;
+        });
+        fundsAdded.record(addFundsRequestDto.getAmount().doubleValue());
+
+        if (ADD_FUNDS_LOG_SAMPLER.tryAcquire()) {
+            LOGGER.info("Funds added to account {}. New balance: {} ({} more since the last report)",
+                    addFundsRequestDto.getAccountNumber(), newBalance, ADD_FUNDS_LOG_SAMPLER.drainSuppressed());
         }
-
-        // Update the balance
-        BigDecimal newBalance = companyAccount.getCurrentBalance().add(addFundsRequestDto.getAmount());
-        companyAccount.setCurrentBalance(newBalance);
-
-        // Save the updated company account
-        companyAccountRepository.save(companyAccount);
-        LOGGER.info("Funds added successfully. New balance: {}", newBalance);
         return true;
     }
 
     /**
      * Transfers salary from the company account to an employee's bank account.
+     * The debit is a single conditional update, so concurrent transfers from the same
+     * company account can neither lose updates nor overdraw it. The transfer is recorded
+     * in the ledger within the same transaction.
      *
      * @param request The transfer request DTO containing the company account number and employee ID
      * @throws CustomException if company account or employee does not exist, or if funds are insufficient
      */
     @Override
-    @Transactional
     public void transferSalary(TransferRequestDTO request) {
-        LOGGER.info("Initiating transfer from company account {} to employee ID {}",
+        LOGGER.debug("Initiating transfer from company account {} to employee ID {}",
                 request.getCompanyAccountNumber(), request.getEmployeeId());
 
-        CompanyAccount companyAccount = validateCompanyAccount(request.getCompanyAccountNumber());
-        Employee employee = validateEmployee(request.getEmployeeId());
+        BigDecimal totalSalary = optimisticRetryLogic.executeWithRetry("transferSalary", () -> {
+            Employee employee = validateEmployee(request.getEmployeeId());
 
-        double totalSalary = calculateTotalSalary(employee.getGrade());
+            // Converted to BigDecimal once, at the persistence boundary
+            BigDecimal amount = calculateTotalSalary(employee.getGrade()).toBigDecimal();
 
-        validateSufficientFunds(companyAccount, totalSalary);
+            debitCompanyAccount(request.getCompanyAccountNumber(), amount);
 
-        performTransfer(companyAccount, employee, totalSalary);
+            // Add salary to employee's bank account
+            bankAccountRepository.credit(employee.getBankAccount().getId(), amount);
 
-        LOGGER.info("Transfer completed. Company account balance: {}, Employee account balance: {}",
-                companyAccount.getCurrentBalance(), employee.getBankAccount().getCurrentBalance());
-    }
+            ledgerService.recordTransfer(new LedgerTransferDTO(
+                    LedgerAccountType.COMPANY, request.getCompanyAccountNumber(),
+                    LedgerAccountType.BANK, employee.getBankAccount().getAccountNumber(),
+                    amount, SALARY_TRANSFER + ":" + employee.getEmployeeId()));
+            return amount;
+        });
+        transfersCompleted.increment();
+        transferAmount.record(totalSalary.doubleValue());
 
-    /**
-     * Validates the existence of a company account using the account number.
-     *
-     * @param accountNumber The company account number to validate
-     * @return The CompanyAccount if found
-     * @throws CustomException if the company account is not found
-     */
-    private CompanyAccount validateCompanyAccount(String accountNumber) {
-        CompanyAccount companyAccount = companyAccountRepository.findByAccountNumber(accountNumber);
-        if (companyAccount == null) {
-            LOGGER.error("Company account not found");
-            throw new CustomException(HttpStatus.NOT_FOUND, "Company account not found");
+        if (TRANSFER_LOG_SAMPLER.tryAcquire()) {
+            LOGGER.info("Transfer completed. Amount {} moved from company account {} to employee ID {} ({} more since the last report)",
+                    totalSalary, request.getCompanyAccountNumber(), request.getEmployeeId(), TRANSFER_LOG_SAMPLER.drainSuppressed());
         }
-        return companyAccount;
     }
 
     /**
@@ -213,6 +296,7 @@ public class CompanyAccountService implements ICompanyAccountService {
     private Employee validateEmployee(String employeeId) {
         return employeeRepository.findByEmployeeId(employeeId)
                 .orElseThrow(() -> {
+                    transfersEmployeeNotFound.increment();
                     LOGGER.error("Employee not found");
                     return new CustomException(HttpStatus.NOT_FOUND, "Employee not found");
                 });
@@ -224,44 +308,45 @@ public class CompanyAccountService implements ICompanyAccountService {
      * @param grade The grade of the employee
      * @return The total computed salary
      */
-    private double calculateTotalSalary(int grade) {
-        double[] salaryComponents = salaryLogic.calculateSalaryComponents(grade);
-        return salaryComponents[3]; // Total salary is at index 3
+    private Money calculateTotalSalary(int grade) {
+        return salaryLogic.getSalaryForGrade(grade).getTotalSalary();
     }
 
     /**
-     * Validates that the company account has sufficient funds to cover the salary.
+     * Deducts the salary from the company balance and adds it to the paid balance in one
+     * conditional update. When no row is updated, tells a missing account from insufficient funds.
      *
-     * @param companyAccount The company account to check
-     * @param totalSalary    The total salary to be transferred
-     * @throws CustomException if the company account has insufficient funds
+     * @param accountNumber The source company account number
+     * @param totalSalary   The amount to transfer
+     * @throws CustomException if the company account is not found or has insufficient funds
      */
-    private void validateSufficientFunds(CompanyAccount companyAccount, double totalSalary) {
-        if (companyAccount.getCurrentBalance().compareTo(BigDecimal.valueOf(totalSalary)) < 0) {
-            LOGGER.error("Insufficient funds in company account");
-            throw new CustomException(HttpStatus.BAD_REQUEST, "Insufficient funds in company account");
+    private void debitCompanyAccount(String accountNumber, BigDecimal totalSalary) {
+        if (companyAccountRepository.debitSalary(accountNumber, totalSalary) == 1) {
+            return;
+        }
+
+        if (!companyAccountRepository.existsByAccountNumber(accountNumber)) {
+            transfersCompanyAccountNotFound.increment();
+            LOGGER.error("Company account not found");
+            throw new CustomException(HttpStatus.NOT_FOUND, "Company account not found");
         }
+        transfersInsufficientFunds.increment();
+        LOGGER.error("Insufficient funds in company account");
+        throw new CustomException(HttpStatus.BAD_REQUEST, "Insufficient funds in company account");
     }
 
-    /**
-     * Performs the salary transfer, updating both company and employee account balances.
-     *
-     * @param companyAccount The source company account
-     * @param employee       The destination employee
-     * @param totalSalary    The amount to transfer
-     */
-    private void performTransfer(CompanyAccount companyAccount, Employee employee, double totalSalary) {
-        // Deduct the salary from company balance and update paid balance
-        companyAccount.setCurrentBalance(
-                companyAccount.getCurrentBalance().subtract(BigDecimal.valueOf(totalSalary)));
-        companyAccount.setPaidBalance(
-                companyAccount.getPaidBalance().add(BigDecimal.valueOf(totalSalary)));
-        companyAccountRepository.save(companyAccount);
-
-        // Add salary to employee's bank account
-        employee.getBankAccount().setCurrentBalance(
-                employee.getBankAccount().getCurrentBalance().add(BigDecimal.valueOf(totalSalary)));
-        employeeRepository.save(employee);
+    private static Counter transferCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder(TRANSFERS)
+                .tag(OUTCOME_TAG, outcome)
+                .register(meterRegistry);
     }
-}
 
+    private static DistributionSummary amountSummary(MeterRegistry meterRegistry, String name) {
+        return DistributionSummary.builder(name)
+                .publishPercentileHistogram()
+                // Bounds the histogram buckets to realistic amounts
+                .minimumExpectedValue(1.0)
+                .maximumExpectedValue(1_000_000_000.0)
+                .register(meterRegistry);
+    }
+}
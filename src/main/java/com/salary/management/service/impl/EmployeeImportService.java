@@ -0,0 +1,239 @@
+package com.salary.management.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.salary.management.dto.Employee.EmployeeImportResultDTO;
+import com.salary.management.dto.Employee.EmployeeImportResultDTO.ImportStatus;
+import com.salary.management.dto.Employee.EmployeeRequestDTO;
+import com.salary.management.entity.BankAccount;
+import com.salary.management.entity.Employee;
+import com.salary.management.logic.EmployeeIdAllocator;
+import com.salary.management.logic.EmployeeImportReader;
+import com.salary.management.logic.EmployeeImportReader.Row;
+import com.salary.management.logic.GradeCapacityLogic;
+import com.salary.management.mapper.EmployeeMapper;
+import com.salary.management.repository.BankAccountRepository;
+import com.salary.management.repository.EmployeeRepository;
+import com.salary.management.service.IEmployeeImportService;
+import io.micrometer.core.annotation.Timed;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static com.salary.management.utils.Constants.Employee.DEFAULT_IMPORT_BATCH_SIZE;
+import static com.salary.management.utils.Constants.Metrics.SERVICE_OPERATION;
+
+/**
+ * Service implementation for bulk employee imports.
+ * Rows are read and validated one at a time and imported in batches: each batch resolves its
+ * bank accounts and their current owners with one IN query each, reserves grade seats once per
+ * grade, takes employee IDs from the block allocator and inserts all employees with Hibernate
+ * JDBC batching.
+ * Results are written in row order as soon as their batch completes.
+ */
+@Service
+@Timed(value = SERVICE_OPERATION, histogram = true)
+public class EmployeeImportService implements IEmployeeImportService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(EmployeeImportService.class);
+
+    private final BankAccountRepository bankAccountRepository;
+    private final EmployeeRepository employeeRepository;
+    private final EmployeeIdAllocator employeeIdAllocator;
+    private final GradeCapacityLogic gradeCapacityLogic;
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final int batchSize;
+
+    public EmployeeImportService(BankAccountRepository bankAccountRepository,
+                                 EmployeeRepository employeeRepository,
+                                 EmployeeIdAllocator employeeIdAllocator,
+                                 GradeCapacityLogic gradeCapacityLogic,
+                                 TransactionTemplate transactionTemplate,
+                                 Validator validator,
+                                 ObjectMapper objectMapper,
+                                 @Value("${employee.import.batch-size:" + DEFAULT_IMPORT_BATCH_SIZE + "}") int batchSize) {
+        this.bankAccountRepository = bankAccountRepository;
+        this.employeeRepository = employeeRepository;
+        this.employeeIdAllocator = employeeIdAllocator;
+        this.gradeCapacityLogic = gradeCapacityLogic;
+        this.transactionTemplate = transactionTemplate;
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Imports employees from a CSV or NDJSON body, writing one NDJSON result per row as batches complete.
+     *
+     * @param input  The import body.
+     * @param format The format of the import body.
+     * @param output The stream the per-row results are written to.
+     * @throws IOException if the body cannot be read or the results cannot be written.
+     */
+    @Override
+    public void importEmployees(InputStream input, EmployeeImportReader.Format format, OutputStream output) throws IOException {
+        LOGGER.info("Starting {} employee import", format);
+        EmployeeImportReader reader = new EmployeeImportReader(
+                new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8)), format, objectMapper);
+
+        int created = 0;
+        int failed = 0;
+        List<Row> batch = new ArrayList<>(batchSize);
+        Row row;
+        while (true) {
+            row = reader.next();
+            if (row != null) {
+                batch.add(row);
+            }
+            if (!batch.isEmpty() && (row == null || batch.size() >= batchSize)) {
+                for (EmployeeImportResultDTO result : importBatch(batch)) {
+                    output.write(objectMapper.writeValueAsBytes(result));
+                    output.write('\n');
+                    if (result.getStatus() == ImportStatus.CREATED) {
+                        created++;
+                    } else {
+                        failed++;
+                    }
+                }
+                output.flush();
+                batch.clear();
+            }
+            if (row == null) {
+                break;
+            }
+        }
+
+        LOGGER.info("Employee import finished. Created: {}, Failed: {}", created, failed);
+    }
+
+    /**
+     * Validates and imports one batch, returning a result for every row in row order.
+     * If the batch transaction fails for any reason, including a failed commit or an exhausted
+     * connection pool, every row that was going to be created is reported as failed; rows already
+     * rejected with a specific reason keep that reason, and the import goes on with the next batch.
+     */
+    private List<EmployeeImportResultDTO> importBatch(List<Row> rows) {
+        EmployeeImportResultDTO[] results = new EmployeeImportResultDTO[rows.size()];
+        List<Integer> candidates = new ArrayList<>();
+        for (int i = 0; i < rows.size(); i++) {
+            Row row = rows.get(i);
+            String error = row.error() != null ? row.error() : validate(row.request());
+            if (error != null) {
+                results[i] = failed(row, error);
+            } else {
+                candidates.add(i);
+            }
+        }
+
+        if (!candidates.isEmpty()) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> insertCandidates(rows, candidates, results));
+            } catch (RuntimeException e) {
+                LOGGER.error("Employee import batch of {} rows failed", candidates.size(), e);
+                for (int i : candidates) {
+                    // Rows already failed for their own reason keep it; only rows that were to be created are retried
+                    if (results[i] == null || results[i].getStatus() == ImportStatus.CREATED) {
+                        results[i] = failed(rows.get(i), "The batch could not be saved, please retry this row");
+                    }
+                }
+            }
+        }
+        return Arrays.asList(results);
+    }
+
+    /**
+     * Resolves bank accounts and grade seats for the valid rows of a batch and inserts the employees.
+     */
+    private void insertCandidates(List<Row> rows, List<Integer> candidates, EmployeeImportResultDTO[] results) {
+        Set<String> accountNumbers = new HashSet<>();
+        candidates.forEach(i -> accountNumbers.add(rows.get(i).request().getAccountNumber()));
+        Map<String, BankAccount> accounts = bankAccountRepository.findByAccountNumberIn(accountNumbers).stream()
+                .collect(Collectors.toMap(BankAccount::getAccountNumber, Function.identity()));
+        Set<Long> assignedAccountIds = accounts.isEmpty() ? new HashSet<>()
+                : new HashSet<>(employeeRepository.findAssignedBankAccountIds(
+                        accounts.values().stream().map(BankAccount::getId).toList()));
+
+        // Group the rows that can be created by grade, so seats are reserved once per grade
+        Map<Integer, List<Integer>> rowsByGrade = new TreeMap<>();
+        Map<Integer, BankAccount> accountByRow = new HashMap<>();
+        for (int i : candidates) {
+            EmployeeRequestDTO request = rows.get(i).request();
+            BankAccount account = accounts.get(request.getAccountNumber());
+            if (account == null || !account.getAccountName().equals(request.getAccountName())) {
+                results[i] = failed(rows.get(i), "Bank account does not exist.");
+            } else if (!assignedAccountIds.add(account.getId())) {
+                results[i] = failed(rows.get(i), "This account owner is someone else.");
+            } else {
+                accountByRow.put(i, account);
+                rowsByGrade.computeIfAbsent(request.getGrade(), grade -> new ArrayList<>()).add(i);
+            }
+        }
+        if (rowsByGrade.isEmpty()) {
+            return;
+        }
+
+        Map<Integer, Integer> requestedSeats = new HashMap<>();
+        rowsByGrade.forEach((grade, gradeRows) -> requestedSeats.put(grade, gradeRows.size()));
+        Map<Integer, Integer> grantedSeats = gradeCapacityLogic.reserveUpTo(requestedSeats);
+
+        List<Employee> employees = new ArrayList<>();
+        rowsByGrade.forEach((grade, gradeRows) -> {
+            int seats = grantedSeats.getOrDefault(grade, 0);
+            for (int k = 0; k < gradeRows.size(); k++) {
+                int i = gradeRows.get(k);
+                Row row = rows.get(i);
+                if (k >= seats) {
+                    results[i] = failed(row, "Maximum number of employees reached for grade " + grade);
+                    continue;
+                }
+                String employeeId = employeeIdAllocator.nextEmployeeId();
+                Employee employee = EmployeeMapper.toEntity(row.request(), accountByRow.get(i));
+                employee.setEmployeeId(employeeId);
+                employees.add(employee);
+                results[i] = new EmployeeImportResultDTO(row.rowNumber(), ImportStatus.CREATED, employeeId, null);
+            }
+        });
+
+        if (!employees.isEmpty()) {
+            // Sequence IDs let Hibernate send the inserts as JDBC batches; flushing here
+            // surfaces constraint violations as DataAccessException before commit
+            employeeRepository.saveAll(employees);
+            employeeRepository.flush();
+        }
+    }
+
+    /**
+     * Runs the Jakarta constraints of EmployeeRequestDTO.
+     *
+     * @return The violation messages, or null if the request is valid.
+     */
+    private String validate(EmployeeRequestDTO request) {
+        Set<ConstraintViolation<EmployeeRequestDTO>> violations = validator.validate(request);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(ConstraintViolation::getMessage)
+                .sorted()
+                .collect(Collectors.joining("; "));
+    }
+
+    private static EmployeeImportResultDTO failed(Row row, String message) {
+        return new EmployeeImportResultDTO(row.rowNumber(), ImportStatus.FAILED, null, message);
+    }
+}
@@ -7,29 +7,47 @@ import com.salary.management.entity.BankAccount;
 import com.salary.management.entity.Employee;
 import com.salary.management.exception.CustomException;
 import com.salary.management.logic.EmployeeLogic;
+import com.salary.management.logic.GradeCapacityLogic;
+import com.salary.management.logic.GradeSalaryTable;
 import com.salary.management.logic.SalaryLogic;
 import com.salary.management.mapper.EmployeeMapper;
 import com.salary.management.repository.EmployeeRepository;
+import com.salary.management.response.BatchGetResponse;
+import com.salary.management.response.CustomResponse;
 import com.salary.management.service.IEmployeeService;
+import com.salary.management.utils.LogSampler;
+import com.salary.management.utils.PaginationUtils;
+import io.micrometer.core.annotation.Timed;
+import jakarta.transaction.Transactional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+
+import static com.salary.management.utils.Constants.Logging.HOT_PATH_SAMPLE_INTERVAL;
+import static com.salary.management.utils.Constants.Metrics.SERVICE_OPERATION;
 
 /**
  * Service implementation for managing employees.
  */
 @Service
+@Timed(value = SERVICE_OPERATION, histogram = true)
 public class EmployeeService implements IEmployeeService {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(EmployeeService.class);
+    // Per-call hot paths log one sampled line per interval instead of one line per call
+    private static final LogSampler LOOKUP_LOG_SAMPLER = new LogSampler(HOT_PATH_SAMPLE_INTERVAL);
 
     private final EmployeeRepository employeeRepository;
     private final SalaryLogic salaryLogic;
     private final EmployeeLogic employeeLogic;
+    private final GradeCapacityLogic gradeCapacityLogic;
 
     /**
      * Constructs the EmployeeService with the required dependencies.
@@ -37,30 +55,38 @@ public class EmployeeService implements IEmployeeService {
      * @param employeeRepository    the employee repository
      * @param salaryLogic           the salary logic service
      * @param employeeLogic         the employee logic service
+     * @param gradeCapacityLogic    the per-grade headcount limits
      */
     public EmployeeService(EmployeeRepository employeeRepository,
                            SalaryLogic salaryLogic,
-                           EmployeeLogic employeeLogic) {
+                           EmployeeLogic employeeLogic,
+                           GradeCapacityLogic gradeCapacityLogic) {
         this.employeeRepository = employeeRepository;
         this.salaryLogic = salaryLogic;
         this.employeeLogic = employeeLogic;
+        this.gradeCapacityLogic = gradeCapacityLogic;
     }
 
     /**
      * Creates a new employee with details from the given request.
-     * Validates the grade limit and bank account, generates a new employee ID, and persists the employee.
+     * Reserves a seat in the grade, looks up the bank account, generates a new employee ID,
+     * and persists the employee, all in one transaction. This costs three statements: the seat
+     * reservation, the bank account lookup and the insert. A bank account that already belongs to
+     * another employee is rejected by the unique constraint on insert rather than by a pre-check,
+     * and the salary components come from the in-memory grade table.
      *
      * @param request the DTO containing employee creation details
      * @return EmployeeResponseDTO containing the created employee's details
      */
     @Override
+    @Transactional
     public EmployeeResponseDTO createEmployee(EmployeeRequestDTO request) {
-        LOGGER.info("Creating a new employee with request data: {}", request);
+        LOGGER.info("Creating a new employee for bank account: {}", request.getAccountNumber());
 
-        // Validate grade limit (keeping this in createEmployee)
-        employeeLogic.validateGradeLimits(request.getGrade());
+        // Reserve a seat in the grade; rolled back if the employee is not created
+        gradeCapacityLogic.reserve(request.getGrade());
 
-        // Retrieve and validate bank account
+        // Retrieve the bank account; its ownership is checked by the unique constraint
         BankAccount bankAccount = employeeLogic.getValidBankAccount(request);
 
         // Generate a new employee ID
@@ -69,15 +95,21 @@ public class EmployeeService implements IEmployeeService {
         // Create and save the employee (keeping this logic in createEmployee)
         Employee employee = EmployeeMapper.toEntity(request, bankAccount);
         employee.setEmployeeId(newEmployeeId);
-        employeeRepository.save(employee);
+        try {
+            // Flush now so a constraint violation surfaces here and not at commit
+            employeeRepository.saveAndFlush(employee);
+        } catch (DataIntegrityViolationException e) {
+            if (employeeLogic.isBankAccountAlreadyAssigned(e)) {
+                LOGGER.error("Bank account {} is already associated with another employee", request.getAccountNumber());
+                throw new CustomException(HttpStatus.CONFLICT, "This account owner is someone else.");
+            }
+            throw e;
+        }
 
         LOGGER.info("Employee created successfully with employee ID: {}", newEmployeeId);
 
-        // Calculate salary components
-        double[] salaryComponents = salaryLogic.calculateSalaryComponents(employee.getGrade());
-
-        // Convert to response DTO
-        return EmployeeMapper.toResponseDto(employee, salaryComponents);
+        // Convert to response DTO with the grade's salary components
+        return EmployeeMapper.toResponseDto(employee, salaryLogic.getSalaryForGrade(employee.getGrade()));
     }
 
     /**
@@ -88,7 +120,7 @@ public class EmployeeService implements IEmployeeService {
      */
     @Override
     public EmployeeResponseDTO getEmployeeById(String employeeId) {
-        LOGGER.info("Retrieving employee with employee ID: {}", employeeId);
+        LOGGER.debug("Retrieving employee with employee ID: {}", employeeId);
 
         Employee employee = employeeRepository.findByEmployeeId(employeeId)
                 .orElseThrow(() -> {
@@ -96,26 +128,54 @@ public class EmployeeService implements IEmployeeService {
                     return new CustomException(HttpStatus.NOT_FOUND, "Employee not found with ID: " + employeeId);
                 });
 
-        double[] salaryComponents = salaryLogic.calculateSalaryComponents(employee.getGrade());
-        return EmployeeMapper.toResponseDto(employee, salaryComponents);
+        if (LOOKUP_LOG_SAMPLER.tryAcquire()) {
+            LOGGER.info("Retrieved employee {} ({} more lookups since the last report)",
+                    employeeId, LOOKUP_LOG_SAMPLER.drainSuppressed());
+        }
+        return EmployeeMapper.toResponseDto(employee, salaryLogic.getSalaryForGrade(employee.getGrade()));
+    }
+
+    /**
+     * Retrieves many employees with one query, bank accounts included, and a single
+     * salary table lookup shared by all grades.
+     *
+     * @param employeeIds the employee IDs to look up
+     * @return a BatchGetResponse with the employees keyed by employee ID, in request order
+     */
+    @Override
+    public BatchGetResponse<EmployeeResponseDTO> getEmployeesByIds(List<String> employeeIds) {
+        LOGGER.debug("Retrieving {} employees by employee ID", employeeIds.size());
+
+        List<Employee> employees = employeeRepository.findByEmployeeIdIn(new LinkedHashSet<>(employeeIds));
+        GradeSalaryTable gradeSalaryTable = salaryLogic.getGradeSalaryTable();
+        Map<String, EmployeeResponseDTO> resolved = new HashMap<>();
+        for (Employee employee : employees) {
+            resolved.put(employee.getEmployeeId(),
+                    EmployeeMapper.toResponseDto(employee, gradeSalaryTable.forGrade(employee.getGrade())));
+        }
+
+        BatchGetResponse<EmployeeResponseDTO> response = BatchGetResponse.of(employeeIds, resolved);
+        LOGGER.info("Employees found: {}, not found: {}", response.getFound().size(), response.getNotFound().size());
+        return response;
     }
 
     /**
-     * Retrieves all employees and their details.
+     * Retrieves one keyset page of employees and their details, seeking on the primary key.
      *
-     * @return a list of EmployeeResponseDTO containing details of all employees
+     * @param cursor the cursor returned with the previous page (optional)
+     * @param size   the requested page size (optional)
+     * @return a CustomResponse containing the page of employees and its pagination details
      */
     @Override
-    public List<EmployeeResponseDTO> getAllEmployees() {
-        LOGGER.info("Retrieving all employees");
-
-        List<Employee> employees = employeeRepository.findAll();
-        return employees.stream()
-                .map(employee -> {
-                    double[] salaryComponents = salaryLogic.calculateSalaryComponents(employee.getGrade());
-                    return EmployeeMapper.toResponseDto(employee, salaryComponents);
-                })
-                .collect(Collectors.toList());
+    public CustomResponse<EmployeeResponseDTO> getAllEmployees(Long cursor, Integer size) {
+        int pageSize = PaginationUtils.resolvePageSize(size);
+        LOGGER.debug("Retrieving employees after cursor: {} with page size: {}", cursor, pageSize);
+
+        List<Employee> employees = employeeRepository.findByIdGreaterThanOrderByIdAsc(
+                PaginationUtils.resolveCursor(cursor), PaginationUtils.fetchLimit(pageSize));
+        GradeSalaryTable gradeSalaryTable = salaryLogic.getGradeSalaryTable();
+        return PaginationUtils.toPage(employees, cursor, pageSize, Employee::getId,
+                employee -> EmployeeMapper.toResponseDto(employee, gradeSalaryTable.forGrade(employee.getGrade())));
     }
 
 
@@ -126,16 +186,19 @@ public class EmployeeService implements IEmployeeService {
      * @throws CustomException if no employee is found with the given ID
      */
     @Override
+    @Transactional
     public void deleteEmployeeById(String employeeId) {
         LOGGER.info("Deleting employee with ID: {}", employeeId);
 
-        Employee employee = employeeRepository.findByEmployeeId(employeeId)
+        // Locked so a concurrent delete cannot release the same seat twice
+        Employee employee = employeeRepository.lockByEmployeeId(employeeId)
                 .orElseThrow(() -> {
                     LOGGER.error("Employee not found with ID: {}", employeeId);
                     return new CustomException(HttpStatus.NOT_FOUND, "Employee not found with ID: " + employeeId);
                 });
 
         employeeRepository.delete(employee);
+        gradeCapacityLogic.release(employee.getGrade());
         LOGGER.info("Employee deleted successfully with ID: {}", employeeId);
     }
 
@@ -146,18 +209,23 @@ public class EmployeeService implements IEmployeeService {
      * @param employeeId the ID of the employee to update
      * @param request    the DTO containing name, grade, address, and mobile number
      * @return an EmployeeResponseDTO with updated employee details
-     * @throws CustomException if the employee ID is not found
+     * @throws CustomException if the employee ID is not found, or the new grade is full
      */
     @Override
+    @Transactional
     public EmployeeResponseDTO updateEmployeeById(String employeeId, EmployeeUpdateRequestDTO request) {
         LOGGER.info("Updating employee with ID: {}", employeeId);
 
-        Employee employee = employeeRepository.findByEmployeeId(employeeId)
+        // Locked so concurrent grade changes see each other's grade and move the seat only once
+        Employee employee = employeeRepository.lockByEmployeeId(employeeId)
                 .orElseThrow(() -> {
                     LOGGER.error("Employee not found with ID: {}", employeeId);
                     return new CustomException(HttpStatus.NOT_FOUND, "Employee not found with ID: " + employeeId);
                 });
 
+        // Move the employee's seat when the grade changes
+        gradeCapacityLogic.move(employee.getGrade(), request.getGrade());
+
         // Update only the allowed fields
         employee.setName(request.getName());
         employee.setGrade(request.getGrade());
@@ -166,7 +234,6 @@ public class EmployeeService implements IEmployeeService {
 
         employeeRepository.save(employee);
 
-        double[] salaryComponents = salaryLogic.calculateSalaryComponents(employee.getGrade());
-        return EmployeeMapper.toResponseDto(employee, salaryComponents);
+        return EmployeeMapper.toResponseDto(employee, salaryLogic.getSalaryForGrade(employee.getGrade()));
     }
 }
@@ -0,0 +1,222 @@
+package com.salary.management.service.impl;
+
+import com.salary.management.dto.Ledger.LedgerBalanceResponseDTO;
+import com.salary.management.dto.Ledger.LedgerTransferDTO;
+import com.salary.management.entity.LedgerAccountType;
+import com.salary.management.entity.LedgerEntry;
+import com.salary.management.entity.LedgerEntryType;
+import com.salary.management.entity.LedgerSnapshot;
+import com.salary.management.repository.LedgerEntryRepository;
+import com.salary.management.repository.LedgerEntryRepository.BalanceDelta;
+import com.salary.management.repository.LedgerSnapshotRepository;
+import com.salary.management.service.ILedgerService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static com.salary.management.utils.Constants.Ledger.*;
+
+/**
+ * Service implementation for the append-only double-entry ledger.
+ * The ledger is written next to the account balances, which callers still update in place in
+ * the same transaction: it is an audit trail and a second, derived balance, not a replacement
+ * for the balance rows, so writers contend on those rows exactly as before.
+ * Balances are read from a per-account snapshot plus the short tail of entries not yet
+ * folded into it; a scheduled job claims committed entries and folds them into the snapshots.
+ */
+@Service
+public class LedgerService implements ILedgerService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LedgerService.class);
+
+    private final LedgerEntryRepository ledgerEntryRepository;
+    private final LedgerSnapshotRepository ledgerSnapshotRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final long maxEntriesPerRun;
+    // Set once this node has seen entries claimed by a compaction run, see claimLegacyEntries
+    private volatile boolean legacyEntriesClaimed;
+
+    public LedgerService(LedgerEntryRepository ledgerEntryRepository,
+                         LedgerSnapshotRepository ledgerSnapshotRepository,
+                         TransactionTemplate transactionTemplate,
+                         @Value("${ledger.compaction.max-entries-per-run:100000}") long maxEntriesPerRun) {
+        this.ledgerEntryRepository = ledgerEntryRepository;
+        this.ledgerSnapshotRepository = ledgerSnapshotRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.maxEntriesPerRun = maxEntriesPerRun;
+    }
+
+    /**
+     * Appends the debit and credit entries of one transfer.
+     *
+     * @param transfer The accounts, amount and reference of the transfer.
+     */
+    @Override
+    public void recordTransfer(LedgerTransferDTO transfer) {
+        ledgerEntryRepository.saveAll(toEntries(UUID.randomUUID().toString(), transfer, Instant.now()));
+    }
+
+    /**
+     * Appends the debit and credit entries of several transfers in one write.
+     *
+     * @param transfers The transfers to record.
+     */
+    @Override
+    public void recordTransfers(List<LedgerTransferDTO> transfers) {
+        Instant now = Instant.now();
+        List<LedgerEntry> entries = new ArrayList<>(transfers.size() * 2);
+        for (LedgerTransferDTO transfer : transfers) {
+            entries.addAll(toEntries(UUID.randomUUID().toString(), transfer, now));
+        }
+        ledgerEntryRepository.saveAll(entries);
+    }
+
+    /**
+     * Records the part of an account's balance the ledger does not know about, for accounts
+     * that existed before the ledger. The transaction ID is derived from the account, so the
+     * opening balance of an account can only ever be recorded once.
+     *
+     * @param accountType   The kind of account.
+     * @param accountNumber The account number.
+     * @param missing       The account balance minus its ledger balance; negative if the ledger is ahead.
+     */
+    @Override
+    public void recordOpeningBalance(LedgerAccountType accountType, String accountNumber, BigDecimal missing) {
+        LedgerTransferDTO transfer = missing.signum() > 0
+                ? new LedgerTransferDTO(LedgerAccountType.EXTERNAL, EXTERNAL_FUNDING_ACCOUNT,
+                        accountType, accountNumber, missing, OPENING_BALANCE)
+                : new LedgerTransferDTO(accountType, accountNumber,
+                        LedgerAccountType.EXTERNAL, EXTERNAL_FUNDING_ACCOUNT, missing.negate(), OPENING_BALANCE);
+        String transactionId = OPENING_BALANCE_TRANSACTION_PREFIX + accountType + ":" + accountNumber;
+        ledgerEntryRepository.saveAll(toEntries(transactionId, transfer, Instant.now()));
+    }
+
+    /**
+     * Returns the ledger balance of an account. The snapshot and the tail are read in one
+     * statement, so a compaction committing in between cannot count an entry twice or not at all.
+     *
+     * @param accountType   The kind of account.
+     * @param accountNumber The account number.
+     * @return LedgerBalanceResponseDTO containing the account balance.
+     */
+    @Override
+    public LedgerBalanceResponseDTO getBalance(LedgerAccountType accountType, String accountNumber) {
+        BigDecimal balance = ledgerEntryRepository.findBalance(accountType.name(), accountNumber);
+        return new LedgerBalanceResponseDTO(accountType, accountNumber, balance);
+    }
+
+    /**
+     * Claims the committed entries that are not yet compacted, up to {@code max-entries-per-run}
+     * IDs from the lowest one, and folds them into the snapshots in the same transaction.
+     * Entries still being written are invisible to the claim and are picked up by a later run
+     * once they commit, however long their transaction takes, so no entry is ever skipped.
+     * A concurrent run on another node waits for the claimed rows and then skips them.
+     *
+     * @return The number of snapshots created or updated.
+     */
+    @Override
+    public int compactSnapshots() {
+        Integer compacted = transactionTemplate.execute(status -> {
+            String run = UUID.randomUUID().toString();
+            claimLegacyEntries();
+            Long fromId = ledgerEntryRepository.findMinUncompactedId();
+            int claimed = fromId == null ? 0 : ledgerEntryRepository.claimForCompaction(run, fromId, fromId + maxEntriesPerRun);
+            if (claimed == 0) {
+                return 0;
+            }
+
+            Instant now = Instant.now();
+            List<LedgerSnapshot> snapshots = new ArrayList<>();
+            for (BalanceDelta delta : ledgerEntryRepository.sumBalanceDeltas(run)) {
+                LedgerSnapshot snapshot = ledgerSnapshotRepository
+                        .findByAccountTypeAndAccountNumber(delta.getAccountType(), delta.getAccountNumber())
+                        .orElseGet(() -> newSnapshot(delta));
+                snapshot.setBalance(snapshot.getBalance().add(delta.getDelta()));
+                snapshot.setLastEntryId(Math.max(snapshot.getLastEntryId(), delta.getLastEntryId()));
+                snapshot.setUpdatedAt(now);
+                snapshots.add(snapshot);
+            }
+            ledgerSnapshotRepository.saveAll(snapshots);
+            LOGGER.debug("Compaction run {} folded {} ledger entries into {} snapshots", run, claimed, snapshots.size());
+            return snapshots.size();
+        });
+        return compacted == null ? 0 : compacted;
+    }
+
+    /**
+     * Periodically compacts the ledger. If another node updated the same snapshots concurrently,
+     * this pass is rolled back, releasing its claims, and the next one picks the entries up again.
+     */
+    @Scheduled(fixedDelayString = "${ledger.compaction.interval-ms:60000}")
+    public void scheduledCompaction() {
+        try {
+            int compacted = compactSnapshots();
+            if (compacted > 0) {
+                LOGGER.info("Ledger compaction updated {} snapshots", compacted);
+            }
+        } catch (OptimisticLockingFailureException | DataIntegrityViolationException e) {
+            LOGGER.info("Ledger compaction skipped, snapshots were updated concurrently");
+        }
+    }
+
+    /**
+     * Snapshots written before entries were claimed cover every entry up to their highest
+     * {@code lastEntryId}. Until the first entry is claimed, those entries are claimed here
+     * as already folded, so they are not counted a second time.
+     */
+    private void claimLegacyEntries() {
+        if (legacyEntriesClaimed) {
+            return;
+        }
+        if (ledgerEntryRepository.existsByCompactionRunIsNotNull()) {
+            legacyEntriesClaimed = true;
+            return;
+        }
+        long watermark = ledgerSnapshotRepository.findCompactionWatermark();
+        if (watermark > 0) {
+            int claimed = ledgerEntryRepository.claimUpToWatermark(LEGACY_COMPACTION_RUN, watermark);
+            LOGGER.info("Marked {} ledger entries up to ID {} as compacted by earlier snapshots", claimed, watermark);
+        }
+    }
+
+    private List<LedgerEntry> toEntries(String transactionId, LedgerTransferDTO transfer, Instant createdAt) {
+        return List.of(
+                newEntry(transactionId, transfer.getDebitAccountType(), transfer.getDebitAccountNumber(),
+                        LedgerEntryType.DEBIT, transfer, createdAt),
+                newEntry(transactionId, transfer.getCreditAccountType(), transfer.getCreditAccountNumber(),
+                        LedgerEntryType.CREDIT, transfer, createdAt));
+    }
+
+    private LedgerEntry newEntry(String transactionId, LedgerAccountType accountType, String accountNumber,
+                                 LedgerEntryType entryType, LedgerTransferDTO transfer, Instant createdAt) {
+        LedgerEntry entry = new LedgerEntry();
+        entry.setTransactionId(transactionId);
+        entry.setAccountType(accountType);
+        entry.setAccountNumber(accountNumber);
+        entry.setEntryType(entryType);
+        entry.setAmount(transfer.getAmount());
+        entry.setReference(transfer.getReference());
+        entry.setCreatedAt(createdAt);
+        return entry;
+    }
+
+    private LedgerSnapshot newSnapshot(BalanceDelta delta) {
+        LedgerSnapshot snapshot = new LedgerSnapshot();
+        snapshot.setAccountType(delta.getAccountType());
+        snapshot.setAccountNumber(delta.getAccountNumber());
+        snapshot.setBalance(BigDecimal.ZERO);
+        snapshot.setLastEntryId(0L);
+        return snapshot;
+    }
+}
@@ -0,0 +1,258 @@
+package com.salary.management.service.impl;
+
+import com.salary.management.dto.Ledger.LedgerTransferDTO;
+import com.salary.management.dto.Salary.PayrollRunRequestDTO;
+import com.salary.management.dto.Salary.PayrollRunResponseDTO;
+import com.salary.management.dto.Salary.PayrollRunResponseDTO.EmployeePayment;
+import com.salary.management.dto.Salary.PayrollRunResponseDTO.PaymentStatus;
+import com.salary.management.entity.Employee;
+import com.salary.management.entity.LedgerAccountType;
+import com.salary.management.entity.PayrollRun;
+import com.salary.management.exception.CustomException;
+import com.salary.management.logic.GradeSalaryTable;
+import com.salary.management.logic.SalaryLogic;
+import com.salary.management.repository.CompanyAccountRepository;
+import com.salary.management.repository.EmployeeRepository;
+import com.salary.management.repository.PayrollRunRepository;
+import com.salary.management.service.ILedgerService;
+import com.salary.management.service.IPayrollService;
+import com.salary.management.utils.Money;
+import io.micrometer.core.annotation.Timed;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import static com.salary.management.utils.Constants.Ledger.PAYROLL_RUN;
+import static com.salary.management.utils.Constants.Metrics.SERVICE_OPERATION;
+import static com.salary.management.utils.Constants.Payroll.DEFAULT_CHUNK_SIZE;
+import static com.salary.management.utils.Constants.Payroll.MAX_IDEMPOTENCY_KEY_LENGTH;
+
+/**
+ * Service implementation for bulk payroll runs.
+ * Each chunk debits the company account once and credits all employee
+ * bank accounts of the chunk with a single JDBC batch. Every payment is recorded
+ * in the ledger within the chunk transaction. Each run is recorded under its idempotency
+ * key before any money moves, so a repeated request is rejected instead of paying twice.
+ */
+@Service
+@Timed(value = SERVICE_OPERATION, histogram = true)
+public class PayrollService implements IPayrollService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PayrollService.class);
+    private static final String CREDIT_BANK_ACCOUNT_SQL =
+            "UPDATE bank_accounts SET current_balance = current_balance + ?, version = version + 1 WHERE id = ?";
+
+    private final CompanyAccountRepository companyAccountRepository;
+    private final EmployeeRepository employeeRepository;
+    private final PayrollRunRepository payrollRunRepository;
+    private final SalaryLogic salaryLogic;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ILedgerService ledgerService;
+
+    public PayrollService(CompanyAccountRepository companyAccountRepository,
+                          EmployeeRepository employeeRepository,
+                          PayrollRunRepository payrollRunRepository,
+                          SalaryLogic salaryLogic,
+                          JdbcTemplate jdbcTemplate,
+                          TransactionTemplate transactionTemplate,
+                          ILedgerService ledgerService) {
+        this.companyAccountRepository = companyAccountRepository;
+        this.employeeRepository = employeeRepository;
+        this.payrollRunRepository = payrollRunRepository;
+        this.salaryLogic = salaryLogic;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.ledgerService = ledgerService;
+    }
+
+    /**
+     * Pays every employee (or the requested subset) from the given company account in chunks.
+     *
+     * @param companyAccountNumber The company account to debit.
+     * @param idempotencyKey       Client-chosen key identifying this run.
+     * @param request              Optional filter and chunk size; may be null.
+     * @return PayrollRunResponseDTO with the per-employee payment results.
+     * @throws CustomException if the key is invalid, the company account does not exist,
+     *                         or a run with the same key was already submitted
+     */
+    @Override
+    public PayrollRunResponseDTO runPayroll(String companyAccountNumber, String idempotencyKey,
+                                            PayrollRunRequestDTO request) {
+        LOGGER.info("Starting payroll run {} from company account {}", idempotencyKey, companyAccountNumber);
+
+        if (idempotencyKey == null || idempotencyKey.isBlank() || idempotencyKey.length() > MAX_IDEMPOTENCY_KEY_LENGTH) {
+            throw new CustomException(HttpStatus.BAD_REQUEST,
+                    "Idempotency key must be between 1 and " + MAX_IDEMPOTENCY_KEY_LENGTH + " characters");
+        }
+
+        if (companyAccountRepository.findByAccountNumber(companyAccountNumber) == null) {
+            LOGGER.error("Company account not found: {}", companyAccountNumber);
+            throw new CustomException(HttpStatus.NOT_FOUND, "Company account not found");
+        }
+        recordRun(companyAccountNumber, idempotencyKey);
+
+        int chunkSize = request != null && request.getChunkSize() != null
+                ? request.getChunkSize() : DEFAULT_CHUNK_SIZE;
+        GradeSalaryTable gradeSalaryTable = salaryLogic.getGradeSalaryTable();
+
+        PayrollRunResponseDTO response = new PayrollRunResponseDTO();
+        response.setCompanyAccountNumber(companyAccountNumber);
+
+        if (request != null && request.getEmployeeIds() != null && !request.getEmployeeIds().isEmpty()) {
+            payRequestedEmployees(companyAccountNumber, request.getEmployeeIds(), chunkSize, gradeSalaryTable, response);
+        } else {
+            payAllEmployees(companyAccountNumber, chunkSize, gradeSalaryTable, response);
+        }
+        response.setTotalEmployees(response.getPayments().size());
+
+        LOGGER.info("Payroll run from company account {} finished. Paid: {}, Failed: {}, Total paid: {}",
+                companyAccountNumber, response.getPaidCount(), response.getFailedCount(), response.getTotalPaid());
+        return response;
+    }
+
+    /**
+     * Commits the run under its idempotency key; the unique constraint rejects a second
+     * submission, including one racing on another node.
+     */
+    private void recordRun(String companyAccountNumber, String idempotencyKey) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> payrollRunRepository.saveAndFlush(
+                    new PayrollRun(null, idempotencyKey, companyAccountNumber, Instant.now())));
+        } catch (DataIntegrityViolationException e) {
+            LOGGER.warn("Payroll run {} was already submitted", idempotencyKey);
+            throw new CustomException(HttpStatus.CONFLICT, "A payroll run with this idempotency key was already submitted");
+        }
+    }
+
+    /**
+     * Walks the employee table in primary key order, one chunk at a time.
+     */
+    private void payAllEmployees(String companyAccountNumber, int chunkSize,
+                                 GradeSalaryTable gradeSalaryTable, PayrollRunResponseDTO response) {
+        long afterId = 0L;
+        List<Employee> chunk = employeeRepository.findPayrollChunk(afterId, PageRequest.of(0, chunkSize));
+        while (!chunk.isEmpty()) {
+            payChunk(companyAccountNumber, chunk, gradeSalaryTable, response);
+            if (chunk.size() < chunkSize) {
+                break;
+            }
+            afterId = chunk.get(chunk.size() - 1).getId();
+            chunk = employeeRepository.findPayrollChunk(afterId, PageRequest.of(0, chunkSize));
+        }
+    }
+
+    /**
+     * Pays only the requested employees, resolving each chunk of IDs with a single query.
+     * Unknown employee IDs are reported as failed payments.
+     */
+    private void payRequestedEmployees(String companyAccountNumber, List<String> employeeIds, int chunkSize,
+                                       GradeSalaryTable gradeSalaryTable, PayrollRunResponseDTO response) {
+        List<String> distinctIds = new ArrayList<>(new LinkedHashSet<>(employeeIds));
+        for (int from = 0; from < distinctIds.size(); from += chunkSize) {
+            List<String> idChunk = distinctIds.subList(from, Math.min(from + chunkSize, distinctIds.size()));
+            List<Employee> chunk = employeeRepository.findPayrollChunkByEmployeeIds(idChunk);
+
+            Set<String> foundIds = new LinkedHashSet<>();
+            chunk.forEach(employee -> foundIds.add(employee.getEmployeeId()));
+            for (String employeeId : idChunk) {
+                if (!foundIds.contains(employeeId)) {
+                    recordFailure(response, employeeId, null, "Employee not found");
+                }
+            }
+
+            if (!chunk.isEmpty()) {
+                payChunk(companyAccountNumber, chunk, gradeSalaryTable, response);
+            }
+        }
+    }
+
+    /**
+     * Pays one chunk of employees in a single transaction: one debit of the company
+     * account for the chunk total and one JDBC batch of employee account credits.
+     * If the company account cannot cover the chunk, the whole chunk is reported as failed.
+     * Employees without a bank account are reported as failed and left out of the chunk.
+     */
+    private void payChunk(String companyAccountNumber, List<Employee> chunk,
+                          GradeSalaryTable gradeSalaryTable, PayrollRunResponseDTO response) {
+        List<PayrollLine> lines = new ArrayList<>(chunk.size());
+        // Summed in minor units; BigDecimal is only produced for the JDBC parameters
+        long chunkTotalMinor = 0L;
+        for (Employee employee : chunk) {
+            Money amount = gradeSalaryTable.forGrade(employee.getGrade()).getTotalSalary();
+            if (employee.getBankAccount() == null) {
+                LOGGER.warn("Employee {} has no bank account; skipping payroll payment", employee.getEmployeeId());
+                recordFailure(response, employee.getEmployeeId(), amount.toBigDecimal(), "No bank account");
+                continue;
+            }
+            lines.add(new PayrollLine(employee.getEmployeeId(), employee.getBankAccount().getId(),
+                    employee.getBankAccount().getAccountNumber(), amount.toBigDecimal()));
+            chunkTotalMinor = Math.addExact(chunkTotalMinor, amount.toMinorUnits());
+        }
+
+        if (lines.isEmpty()) {
+            return;
+        }
+
+        BigDecimal total = Money.ofMinor(chunkTotalMinor).toBigDecimal();
+        Boolean paid = transactionTemplate.execute(status -> {
+            // One conditional debit for the whole chunk; nothing is updated if funds are insufficient
+            if (companyAccountRepository.debitSalary(companyAccountNumber, total) == 0) {
+                return false;
+            }
+
+            jdbcTemplate.batchUpdate(CREDIT_BANK_ACCOUNT_SQL, lines, lines.size(), (ps, line) -> {
+                ps.setBigDecimal(1, line.amount());
+                ps.setLong(2, line.bankAccountId());
+            });
+
+            List<LedgerTransferDTO> transfers = new ArrayList<>(lines.size());
+            for (PayrollLine line : lines) {
+                transfers.add(new LedgerTransferDTO(
+                        LedgerAccountType.COMPANY, companyAccountNumber,
+                        LedgerAccountType.BANK, line.bankAccountNumber(),
+                        line.amount(), PAYROLL_RUN + ":" + line.employeeId()));
+            }
+            ledgerService.recordTransfers(transfers);
+            return true;
+        });
+
+        if (Boolean.TRUE.equals(paid)) {
+            for (PayrollLine line : lines) {
+                response.getPayments().add(new EmployeePayment(line.employeeId(), PaymentStatus.PAID, line.amount(), null));
+            }
+            response.setPaidCount(response.getPaidCount() + lines.size());
+            response.setTotalPaid(response.getTotalPaid().add(total));
+            LOGGER.debug("Paid payroll chunk of {} employees, total {}", lines.size(), total);
+        } else {
+            LOGGER.warn("Insufficient funds in company account {} for payroll chunk of {} employees, total {}",
+                    companyAccountNumber, lines.size(), total);
+            for (PayrollLine line : lines) {
+                recordFailure(response, line.employeeId(), line.amount(), "Insufficient funds in company account");
+            }
+        }
+    }
+
+    private void recordFailure(PayrollRunResponseDTO response, String employeeId, BigDecimal amount, String message) {
+        response.getPayments().add(new EmployeePayment(employeeId, PaymentStatus.FAILED, amount, message));
+        response.setFailedCount(response.getFailedCount() + 1);
+    }
+
+    /**
+     * A single employee payment within a chunk.
+     */
+    private record PayrollLine(String employeeId, Long bankAccountId, String bankAccountNumber, BigDecimal amount) {
+    }
+}
@@ -0,0 +1,150 @@
+package com.salary.management.service.impl;
+
+import com.salary.management.dto.BankAccount.BankAccountResponseDTO;
+import com.salary.management.dto.BankAccount.BankAccountSearchRequestDTO;
+import com.salary.management.dto.CompanyAccount.CompanyAccountResponseDTO;
+import com.salary.management.dto.CompanyAccount.CompanyAccountSearchRequestDTO;
+import com.salary.management.dto.Employee.EmployeeResponseDTO;
+import com.salary.management.exception.CustomException;
+import com.salary.management.logic.GradeSalaryTable;
+import com.salary.management.logic.SalaryLogic;
+import com.salary.management.mapper.BankAccountMapper;
+import com.salary.management.mapper.CompanyAccountMapper;
+import com.salary.management.mapper.EmployeeMapper;
+import com.salary.management.repository.reactive.ReactiveBankAccountRepository;
+import com.salary.management.repository.reactive.ReactiveCompanyAccountRepository;
+import com.salary.management.repository.reactive.ReactiveEmployeeRepository;
+import com.salary.management.service.IReactiveQueryService;
+import com.salary.management.utils.PaginationUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Service implementation for the reactive read path.
+ * Reads go through R2DBC against the same tables the JPA entities write; all writes stay on JPA.
+ */
+@Service
+public class ReactiveQueryService implements IReactiveQueryService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ReactiveQueryService.class);
+
+    private final ReactiveEmployeeRepository employeeRepository;
+    private final ReactiveBankAccountRepository bankAccountRepository;
+    private final ReactiveCompanyAccountRepository companyAccountRepository;
+    private final SalaryLogic salaryLogic;
+
+    public ReactiveQueryService(ReactiveEmployeeRepository employeeRepository,
+                                ReactiveBankAccountRepository bankAccountRepository,
+                                ReactiveCompanyAccountRepository companyAccountRepository,
+                                SalaryLogic salaryLogic) {
+        this.employeeRepository = employeeRepository;
+        this.bankAccountRepository = bankAccountRepository;
+        this.companyAccountRepository = companyAccountRepository;
+        this.salaryLogic = salaryLogic;
+    }
+
+    /**
+     * Retrieves an employee, with bank account and salary breakdown, without blocking.
+     *
+     * @param employeeId The unique ID of the employee.
+     * @return Mono emitting the employee's details.
+     */
+    @Override
+    public Mono<EmployeeResponseDTO> getEmployeeById(String employeeId) {
+        return employeeRepository.findByEmployeeId(employeeId)
+                .switchIfEmpty(Mono.error(() -> {
+                    LOGGER.error("Employee not found with ID: {}", employeeId);
+                    return new CustomException(HttpStatus.NOT_FOUND, "Employee not found with ID: " + employeeId);
+                }))
+                .zipWith(gradeSalaryTable(),
+                        (employee, table) -> EmployeeMapper.toResponseDto(employee, table.forGrade(employee.getGrade())));
+    }
+
+    /**
+     * Streams employees with their bank accounts and salary breakdowns in primary key order.
+     *
+     * @param cursor Only employees after this position are streamed (optional).
+     * @return Flux of employees.
+     */
+    @Override
+    public Flux<EmployeeResponseDTO> streamEmployees(Long cursor) {
+        LOGGER.debug("Streaming employees after cursor: {}", cursor);
+        return gradeSalaryTable().flatMapMany(table ->
+                employeeRepository.streamAfter(PaginationUtils.resolveCursor(cursor))
+                        .map(employee -> EmployeeMapper.toResponseDto(employee, table.forGrade(employee.getGrade()))));
+    }
+
+    /**
+     * Retrieves a bank account by account number and account name without blocking.
+     *
+     * @param searchRequestDto The search criteria.
+     * @return Mono emitting the bank account.
+     */
+    @Override
+    public Mono<BankAccountResponseDTO> getBankAccountByAccountDetails(BankAccountSearchRequestDTO searchRequestDto) {
+        return bankAccountRepository.findByAccountNumberAndAccountName(
+                        searchRequestDto.getAccountNumber(), searchRequestDto.getAccountName())
+                .switchIfEmpty(Mono.error(() -> {
+                    LOGGER.warn("No bank account found with the provided details.");
+                    return new CustomException(HttpStatus.NOT_FOUND, "Bank account not found with the provided details");
+                }))
+                .map(BankAccountMapper::toResponseDto);
+    }
+
+    /**
+     * Streams bank accounts in primary key order.
+     *
+     * @param cursor Only accounts after this position are streamed (optional).
+     * @return Flux of bank accounts.
+     */
+    @Override
+    public Flux<BankAccountResponseDTO> streamBankAccounts(Long cursor) {
+        LOGGER.debug("Streaming bank accounts after cursor: {}", cursor);
+        return bankAccountRepository.findByIdGreaterThanOrderByIdAsc(PaginationUtils.resolveCursor(cursor))
+                .map(BankAccountMapper::toResponseDto);
+    }
+
+    /**
+     * Retrieves a company account by account number and account name without blocking.
+     *
+     * @param searchRequestDto The search criteria.
+     * @return Mono emitting the company account.
+     */
+    @Override
+    public Mono<CompanyAccountResponseDTO> getCompanyAccountByDetails(CompanyAccountSearchRequestDTO searchRequestDto) {
+        return companyAccountRepository.findByAccountNumberAndAccountName(
+                        searchRequestDto.getAccountNumber(), searchRequestDto.getAccountName())
+                .switchIfEmpty(Mono.error(() -> {
+                    LOGGER.warn("Company account not found with account number: {}", searchRequestDto.getAccountNumber());
+                    return new CustomException(HttpStatus.NOT_FOUND, "Company account not found with the provided details");
+                }))
+                .map(CompanyAccountMapper::toResponseDto);
+    }
+
+    /**
+     * Streams company accounts in primary key order.
+     *
+     * @param cursor Only accounts after this position are streamed (optional).
+     * @return Flux of company accounts.
+     */
+    @Override
+    public Flux<CompanyAccountResponseDTO> streamCompanyAccounts(Long cursor) {
+        LOGGER.debug("Streaming company accounts after cursor: {}", cursor);
+        return companyAccountRepository.findByIdGreaterThanOrderByIdAsc(PaginationUtils.resolveCursor(cursor))
+                .map(CompanyAccountMapper::toResponseDto);
+    }
+
+    /**
+     * The grade salary table is cached in memory; only its first load touches JPA,
+     * so that call is moved off the R2DBC threads.
+     */
+    private Mono<GradeSalaryTable> gradeSalaryTable() {
+        return Mono.fromCallable(salaryLogic::getGradeSalaryTable)
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+}
@@ -1,5 +1,7 @@
 package com.salary.management.utils;
 
+import java.time.Duration;
+
 public final class Constants {
 
     public static class Response{
@@ -16,12 +18,135 @@ public final class Constants {
 
     public static class Employee {
         public static final int[] GRADE_LIMITS = {1, 1, 2, 2, 2, 2};
+        public static final String ID_SEQUENCE_NAME = "employee_id_seq";
+        // Fixed: the sequence increments by this value, so changing it would hand out overlapping blocks
+        public static final int ID_SEQUENCE_BLOCK_SIZE = 50;
+        public static final int MIN_ID_WIDTH = 4;
+        public static final int MAX_ID_WIDTH = 20;
+        public static final String BANK_ACCOUNT_UNIQUE_CONSTRAINT = "uk_employees_bank_account";
+        public static final int DEFAULT_IMPORT_BATCH_SIZE = 500;
 
         private Employee(){
             // Private constructor to prevent instantiation
         }
     }
 
+    public static class Salary {
+        public static final String LOWEST_GRADE_SALARY = "lowest_grade_salary";
+        public static final int GRADE_COUNT = 6;
+
+        private Salary(){
+            // Private constructor to prevent instantiation
+        }
+    }
+
+    public static class Pagination {
+        public static final int DEFAULT_PAGE_SIZE = 20;
+        public static final int MAX_PAGE_SIZE = 100;
+        // Upper bound on the IDs of a single batch-get request, kept well below database IN-list limits
+        public static final int MAX_BATCH_GET_SIZE = 500;
+
+        private Pagination(){
+            // Private constructor to prevent instantiation
+        }
+    }
+
+    public static class Payroll {
+        public static final int DEFAULT_CHUNK_SIZE = 200;
+        public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+        // Length of the payroll_runs.idempotency_key column
+        public static final int MAX_IDEMPOTENCY_KEY_LENGTH = 64;
+
+        private Payroll(){
+            // Private constructor to prevent instantiation
+        }
+    }
+
+    public static class Ledger {
+        // Counter-account for money entering the system from outside
+        public static final String EXTERNAL_FUNDING_ACCOUNT = "EXTERNAL_FUNDING";
+        public static final String OPENING_BALANCE = "OPENING_BALANCE";
+        // Followed by account type and number; at most 34 characters, within the 36 of transaction_id
+        public static final String OPENING_BALANCE_TRANSACTION_PREFIX = "OPENING:";
+        public static final String ADD_FUNDS = "ADD_FUNDS";
+        public static final String SALARY_TRANSFER = "SALARY_TRANSFER";
+        public static final String PAYROLL_RUN = "PAYROLL_RUN";
+        // Compaction run of the entries folded into snapshots before entries were claimed
+        public static final String LEGACY_COMPACTION_RUN = "LEGACY";
+
+        private Ledger(){
+            // Private constructor to prevent instantiation
+        }
+    }
+
+    public static class AccountNumber {
+        public static final String SEQUENCE_NAME = "account_number_seq";
+        // Fixed: the sequence increments by this value, so changing it would hand out overlapping blocks
+        public static final int SEQUENCE_BLOCK_SIZE = 1000;
+        // 11 digit body plus the check digit
+        public static final String SEQUENCE_FORMAT = "%011d";
+
+        // 2025-01-01T00:00:00Z
+        public static final long SNOWFLAKE_EPOCH_SECONDS = 1_735_689_600L;
+        public static final int SNOWFLAKE_NODE_BITS = 8;
+        public static final int SNOWFLAKE_COUNTER_BITS = 14;
+        // How far the clock may move backwards before the generator refuses to issue numbers
+        public static final long SNOWFLAKE_MAX_CLOCK_BACKWARD_SECONDS = 5;
+        // 16 digit body plus the check digit
+        public static final String SNOWFLAKE_FORMAT = "%016d";
+
+        // Truncated UUIDs issued before check digits; never the length of a generated number
+        public static final String LEGACY_FORMAT = "[0-9a-f]{10}";
+
+        private AccountNumber(){
+            // Private constructor to prevent instantiation
+        }
+    }
+
+    public static class Persistence {
+        // Ids reserved per sequence call; must match the INCREMENT BY of the entity id sequences
+        public static final int ID_ALLOCATION_SIZE = 50;
+
+        private Persistence(){
+            // Private constructor to prevent instantiation
+        }
+    }
+
+    public static class BankAccount {
+        // Upper bound on the accounts of a single bulk provisioning request
+        public static final int MAX_BULK_SIZE = 1000;
+
+        private BankAccount(){
+            // Private constructor to prevent instantiation
+        }
+    }
+
+    public static class Logging {
+        // At most one INFO line per interval on per-call hot paths; the rest are counted
+        public static final Duration HOT_PATH_SAMPLE_INTERVAL = Duration.ofSeconds(5);
+
+        private Logging(){
+            // Private constructor to prevent instantiation
+        }
+    }
+
+    public static class Metrics {
+        // Timer of every public service operation, tagged with class and method
+        public static final String SERVICE_OPERATION = "salary.service.operation";
+        public static final String TRANSFERS = "salary.transfers";
+        public static final String TRANSFER_AMOUNT = "salary.transfer.amount";
+        public static final String FUNDS_ADDED = "company.account.funds.added";
+        public static final String OUTCOME_TAG = "outcome";
+        // SQL statements per request and endpoints over their @StatementBudget
+        public static final String REQUEST_STATEMENTS = "http.server.requests.statements";
+        public static final String STATEMENT_BUDGET_EXCEEDED = "http.server.requests.statement.budget.exceeded";
+        public static final String ENDPOINT_TAG = "endpoint";
+
+        private Metrics(){
+            // Private constructor to prevent instantiation
+        }
+    }
+
     private Constants() {
         // Private constructor to prevent instantiation
     }
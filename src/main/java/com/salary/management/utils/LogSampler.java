@@ -0,0 +1,52 @@
+package com.salary.management.utils;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Rate limiter for log statements on per-call hot paths: lets at most one call per interval
+ * log and counts the calls it suppressed in between, so the sampled line can report them.
+ * Lock-free; a suppressed call costs one volatile read and one counter increment.
+ *
+ * <pre>{@code
+ * if (SAMPLER.tryAcquire()) {
+ *     LOGGER.info("Transfer completed ({} more since the last report)", SAMPLER.drainSuppressed());
+ * }
+ * }</pre>
+ */
+public final class LogSampler {
+
+    private final long intervalNanos;
+    private final AtomicLong nextAllowedNanos;
+    private final LongAdder suppressed = new LongAdder();
+
+    public LogSampler(Duration interval) {
+        this.intervalNanos = interval.toNanos();
+        this.nextAllowedNanos = new AtomicLong(System.nanoTime());
+    }
+
+    /**
+     * Returns true for the first call of each interval, false (and counts the call) otherwise.
+     *
+     * @return Whether the caller should log.
+     */
+    public boolean tryAcquire() {
+        long now = System.nanoTime();
+        long nextAllowed = nextAllowedNanos.get();
+        if (now - nextAllowed >= 0 && nextAllowedNanos.compareAndSet(nextAllowed, now + intervalNanos)) {
+            return true;
+        }
+        suppressed.increment();
+        return false;
+    }
+
+    /**
+     * Returns the number of calls suppressed since the previous drain and resets it.
+     *
+     * @return The suppressed call count.
+     */
+    public long drainSuppressed() {
+        return suppressed.sumThenReset();
+    }
+}
@@ -0,0 +1,70 @@
+package com.salary.management.utils;
+
+/**
+ * Luhn (mod 10) check digit, so that mistyped account numbers are rejected before any lookup
+ * (see {@link com.salary.management.validation.ValidAccountNumber}).
+ */
+public final class LuhnCheckDigit {
+
+    private LuhnCheckDigit() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Computes the check digit to append to the given digits.
+     *
+     * @param digits The account number body, digits only.
+     * @return The check digit, 0 to 9.
+     */
+    public static int compute(CharSequence digits) {
+        int sum = 0;
+        // The rightmost body digit is doubled, since the check digit will follow it
+        boolean doubled = true;
+        for (int i = digits.length() - 1; i >= 0; i--) {
+            int digit = digits.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                throw new IllegalArgumentException("Account number body must contain digits only");
+            }
+            if (doubled) {
+                digit *= 2;
+                if (digit > 9) {
+                    digit -= 9;
+                }
+            }
+            sum += digit;
+            doubled = !doubled;
+        }
+        return (10 - sum % 10) % 10;
+    }
+
+    /**
+     * Appends the check digit to the given digits.
+     *
+     * @param digits The account number body, digits only.
+     * @return The body followed by its check digit.
+     */
+    public static String append(String digits) {
+        return digits + compute(digits);
+    }
+
+    /**
+     * Checks that the last digit is the Luhn check digit of the preceding ones.
+     *
+     * @param number The full account number.
+     * @return true if the check digit matches.
+     */
+    public static boolean isValid(String number) {
+        if (number == null || number.length() < 2) {
+            return false;
+        }
+        char last = number.charAt(number.length() - 1);
+        if (last < '0' || last > '9') {
+            return false;
+        }
+        try {
+            return compute(number.subSequence(0, number.length() - 1)) == last - '0';
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+}
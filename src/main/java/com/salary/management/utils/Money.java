@@ -0,0 +1,126 @@
+package com.salary.management.utils;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Immutable amount of money held as a {@code long} count of minor units (cents).
+ * Arithmetic is exact; overflow throws {@link ArithmeticException}. Rates are applied in
+ * basis points and rounded half-even, the only place a Money result is ever rounded.
+ * {@link BigDecimal} is only used at the persistence and API boundary.
+ */
+public final class Money implements Comparable<Money> {
+
+    public static final int SCALE = 2;
+    public static final Money ZERO = new Money(0L);
+
+    private static final long MINOR_UNITS_PER_MAJOR = 100L;
+    private static final long BASIS_POINTS = 10_000L;
+
+    private final long minorUnits;
+
+    private Money(long minorUnits) {
+        this.minorUnits = minorUnits;
+    }
+
+    public static Money ofMinor(long minorUnits) {
+        return minorUnits == 0L ? ZERO : new Money(minorUnits);
+    }
+
+    public static Money ofMajor(long majorUnits) {
+        return ofMinor(Math.multiplyExact(majorUnits, MINOR_UNITS_PER_MAJOR));
+    }
+
+    /**
+     * Converts a decimal amount, rounding half-even to whole minor units.
+     *
+     * @param amount The amount to convert.
+     * @return The amount as Money.
+     * @throws ArithmeticException if the amount does not fit in a long of minor units.
+     */
+    public static Money of(BigDecimal amount) {
+        return ofMinor(amount.setScale(SCALE, RoundingMode.HALF_EVEN).unscaledValue().longValueExact());
+    }
+
+    public Money plus(Money other) {
+        return ofMinor(Math.addExact(minorUnits, other.minorUnits));
+    }
+
+    public Money minus(Money other) {
+        return ofMinor(Math.subtractExact(minorUnits, other.minorUnits));
+    }
+
+    public Money times(long multiplier) {
+        return ofMinor(Math.multiplyExact(minorUnits, multiplier));
+    }
+
+    /**
+     * Applies a rate expressed in basis points (1/100 of a percent), e.g. 2000 for 20%.
+     *
+     * @param basisPoints The rate in basis points.
+     * @return The rounded share of this amount.
+     */
+    public Money applyRate(long basisPoints) {
+        return ofMinor(applyRate(minorUnits, basisPoints));
+    }
+
+    /**
+     * Primitive form of {@link #applyRate(long)} for allocation-free aggregation loops.
+     *
+     * @param minorUnits  The amount in minor units.
+     * @param basisPoints The rate in basis points.
+     * @return The rounded share in minor units.
+     */
+    public static long applyRate(long minorUnits, long basisPoints) {
+        return divideHalfEven(Math.multiplyExact(minorUnits, basisPoints), BASIS_POINTS);
+    }
+
+    public long toMinorUnits() {
+        return minorUnits;
+    }
+
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(minorUnits, SCALE);
+    }
+
+    public boolean isPositive() {
+        return minorUnits > 0L;
+    }
+
+    @Override
+    public int compareTo(Money other) {
+        return Long.compare(minorUnits, other.minorUnits);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o || (o instanceof Money other && minorUnits == other.minorUnits);
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(minorUnits);
+    }
+
+    @Override
+    public String toString() {
+        return toBigDecimal().toPlainString();
+    }
+
+    /**
+     * Integer division rounding to the nearest value, ties to the even quotient.
+     */
+    private static long divideHalfEven(long dividend, long divisor) {
+        long quotient = dividend / divisor;
+        long remainder = dividend % divisor;
+        if (remainder == 0L) {
+            return quotient;
+        }
+
+        int comparison = Long.compare(Math.abs(remainder) * 2, Math.abs(divisor));
+        if (comparison > 0 || (comparison == 0 && (quotient & 1L) != 0L)) {
+            return (dividend ^ divisor) < 0 ? quotient - 1 : quotient + 1;
+        }
+        return quotient;
+    }
+}
@@ -0,0 +1,82 @@
+package com.salary.management.utils;
+
+import com.salary.management.response.CustomResponse;
+import com.salary.management.response.PaginationResponse;
+import org.springframework.data.domain.Limit;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import static com.salary.management.utils.Constants.Pagination.DEFAULT_PAGE_SIZE;
+import static com.salary.management.utils.Constants.Pagination.MAX_PAGE_SIZE;
+
+/**
+ * Helpers for keyset (seek) pagination on a monotonically increasing key.
+ */
+public final class PaginationUtils {
+
+    private PaginationUtils() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Resolves the requested page size, falling back to the default and capping it at the maximum.
+     *
+     * @param size The requested page size (optional).
+     * @return A page size between 1 and {@code MAX_PAGE_SIZE}.
+     */
+    public static int resolvePageSize(Integer size) {
+        if (size == null || size < 1) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        return Math.min(size, MAX_PAGE_SIZE);
+    }
+
+    /**
+     * Resolves the key to seek after; a missing cursor starts from the beginning.
+     *
+     * @param cursor The cursor from the previous page (optional).
+     * @return The key to seek after.
+     */
+    public static long resolveCursor(Long cursor) {
+        return cursor == null ? 0L : cursor;
+    }
+
+    /**
+     * Builds the fetch limit for a page: one extra row tells whether another page follows.
+     *
+     * @param pageSize The resolved page size.
+     * @return The limit to pass to the repository.
+     */
+    public static Limit fetchLimit(int pageSize) {
+        return Limit.of(pageSize + 1);
+    }
+
+    /**
+     * Converts rows fetched with {@link #fetchLimit(int)} into a paginated response.
+     *
+     * @param rows         The fetched rows, ordered by key, at most {@code pageSize + 1} long.
+     * @param cursor       The cursor the page was fetched after (optional).
+     * @param pageSize     The resolved page size.
+     * @param keyExtractor Extracts the seek key from a row.
+     * @param mapper       Maps a row to its response DTO.
+     * @param <E>          The row type.
+     * @param <T>          The response DTO type.
+     * @return The page content with its pagination details.
+     */
+    public static <E, T> CustomResponse<T> toPage(List<E> rows, Long cursor, int pageSize,
+                                                  Function<E, Long> keyExtractor, Function<E, T> mapper) {
+        boolean hasNext = rows.size() > pageSize;
+        int contentSize = hasNext ? pageSize : rows.size();
+
+        List<T> content = new ArrayList<>(contentSize);
+        for (int i = 0; i < contentSize; i++) {
+            content.add(mapper.apply(rows.get(i)));
+        }
+
+        Long nextCursor = hasNext ? keyExtractor.apply(rows.get(contentSize - 1)) : null;
+        boolean hasPrevious = resolveCursor(cursor) > 0;
+        return new CustomResponse<>(content, new PaginationResponse(pageSize, cursor, nextCursor, hasNext, hasPrevious));
+    }
+}
@@ -0,0 +1,25 @@
+package com.salary.management.validation;
+
+import com.salary.management.utils.LuhnCheckDigit;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+
+import java.util.regex.Pattern;
+
+import static com.salary.management.utils.Constants.AccountNumber.LEGACY_FORMAT;
+
+/**
+ * Validates {@link ValidAccountNumber} values against their Luhn check digit.
+ */
+public class AccountNumberValidator implements ConstraintValidator<ValidAccountNumber, String> {
+
+    private static final Pattern LEGACY_PATTERN = Pattern.compile(LEGACY_FORMAT);
+
+    @Override
+    public boolean isValid(String accountNumber, ConstraintValidatorContext context) {
+        if (accountNumber == null) {
+            return true;
+        }
+        return LuhnCheckDigit.isValid(accountNumber) || LEGACY_PATTERN.matcher(accountNumber).matches();
+    }
+}
@@ -0,0 +1,27 @@
+package com.salary.management.validation;
+
+import jakarta.validation.Constraint;
+import jakarta.validation.Payload;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Rejects account numbers whose Luhn check digit does not match, so a mistyped number fails
+ * validation with 400 before any lookup. Account numbers issued before check digits were
+ * introduced cannot be checked and are accepted as they are. Null values are left to
+ * {@code @NotBlank}.
+ */
+@Target({ElementType.FIELD, ElementType.TYPE_USE})
+@Retention(RetentionPolicy.RUNTIME)
+@Constraint(validatedBy = AccountNumberValidator.class)
+public @interface ValidAccountNumber {
+
+    String message() default "Account number is not valid";
+
+    Class<?>[] groups() default {};
+
+    Class<? extends Payload>[] payload() default {};
+}
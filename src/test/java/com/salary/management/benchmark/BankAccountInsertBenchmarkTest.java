@@ -0,0 +1,98 @@
+package com.salary.management.benchmark;
+
+import com.salary.management.entity.AccountType;
+import com.salary.management.entity.BankAccount;
+import com.salary.management.entity.BaseAccount;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.math.BigDecimal;
+import java.util.function.IntFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares inserting 10k bank accounts with IDENTITY IDs (one round trip per row)
+ * against pooled sequence IDs with Hibernate JDBC batching.
+ * Excluded from the regular build; run with {@code ./gradlew benchmarkTest}.
+ */
+@Tag("benchmark")
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.properties.hibernate.jdbc.batch_size=50",
+        "spring.jpa.properties.hibernate.order_inserts=true"
+})
+class BankAccountInsertBenchmarkTest {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(BankAccountInsertBenchmarkTest.class);
+    private static final int ACCOUNT_COUNT = 10_000;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void pooledSequenceInsertsNeedFarFewerStatementsThanIdentityInserts() {
+        // Warm up both paths so class loading and JIT are not measured
+        insert("identity warm-up", 500, index -> identityAccount(ACCOUNT_COUNT + index));
+        insert("pooled warm-up", 500, index -> pooledAccount(ACCOUNT_COUNT + index));
+
+        long identityStatements = insert("IDENTITY", ACCOUNT_COUNT, this::identityAccount);
+        long pooledStatements = insert("pooled SEQUENCE", ACCOUNT_COUNT, this::pooledAccount);
+
+        assertThat(pooledStatements).isLessThan(identityStatements / 5);
+    }
+
+    /**
+     * Persists and flushes the accounts, logs the throughput and returns the number of prepared statements.
+     */
+    private long insert(String label, int count, IntFunction<BaseAccount> factory) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        long start = System.nanoTime();
+        for (int i = 0; i < count; i++) {
+            entityManager.persist(factory.apply(i));
+        }
+        entityManager.flush();
+        long elapsedNanos = System.nanoTime() - start;
+        entityManager.clear();
+
+        long statements = statistics.getPrepareStatementCount();
+        LOGGER.info("{}: {} accounts in {} ms ({} rows/s, {} statements)", label, count,
+                elapsedNanos / 1_000_000, (long) (count / (elapsedNanos / 1e9)), statements);
+        return statements;
+    }
+
+    private BaseAccount identityAccount(int index) {
+        IdentityBankAccount account = new IdentityBankAccount();
+        fill(account, "IDN", index);
+        account.setAccountType(AccountType.SAVINGS);
+        return account;
+    }
+
+    private BaseAccount pooledAccount(int index) {
+        BankAccount account = new BankAccount();
+        fill(account, "SEQ", index);
+        account.setAccountType(AccountType.SAVINGS);
+        return account;
+    }
+
+    private static void fill(BaseAccount account, String prefix, int index) {
+        account.setAccountName("Account " + index);
+        account.setAccountNumber(String.format("%s%08d", prefix, index));
+        account.setCurrentBalance(BigDecimal.ZERO);
+        account.setBankName("Benchmark Bank");
+        account.setBranchName("Main");
+    }
+}
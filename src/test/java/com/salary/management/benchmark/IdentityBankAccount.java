@@ -0,0 +1,24 @@
+package com.salary.management.benchmark;
+
+import com.salary.management.entity.AccountType;
+import com.salary.management.entity.BaseAccount;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Test-only copy of BankAccount that keeps IDENTITY ID generation,
+ * used as the baseline of {@link BankAccountInsertBenchmarkTest}.
+ */
+@Getter
+@Setter
+@Entity
+@Table(name = "identity_bank_accounts")
+public class IdentityBankAccount extends BaseAccount {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    private AccountType accountType;
+}
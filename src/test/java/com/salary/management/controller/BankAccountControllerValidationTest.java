@@ -0,0 +1,91 @@
+package com.salary.management.controller;
+
+import com.salary.management.monitoring.StatementCountInspector;
+import com.salary.management.service.IBankAccountService;
+import com.salary.management.utils.LuhnCheckDigit;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Verifies that account numbers with a wrong check digit are rejected with 400 before the
+ * service is called, while generated and pre-check-digit account numbers pass.
+ */
+@WebMvcTest(controllers = BankAccountController.class)
+@Import({StatementCountInspector.class, BankAccountControllerValidationTest.MetricsConfig.class})
+class BankAccountControllerValidationTest {
+
+    private static final String VALID_NUMBER = LuhnCheckDigit.append("00000001000");
+    private static final String MISTYPED_NUMBER = VALID_NUMBER.substring(0, VALID_NUMBER.length() - 1)
+            + (char) ('0' + (VALID_NUMBER.charAt(VALID_NUMBER.length() - 1) - '0' + 1) % 10);
+    private static final String LEGACY_NUMBER = "3f2a9c01be";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private IBankAccountService bankAccountService;
+
+    @Test
+    void searchRejectsMistypedAccountNumber() throws Exception {
+        mockMvc.perform(post("/api/bank-accounts/search")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(search(MISTYPED_NUMBER)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.accountNumber").value("Account number is not valid"));
+
+        verifyNoInteractions(bankAccountService);
+    }
+
+    @Test
+    void batchGetRejectsMistypedAccountNumber() throws Exception {
+        mockMvc.perform(post("/api/bank-accounts/batch-get")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"accountNumbers\":[\"" + VALID_NUMBER + "\",\"" + MISTYPED_NUMBER + "\"]}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$['accountNumbers[1]']").value("Account number is not valid"));
+
+        verifyNoInteractions(bankAccountService);
+    }
+
+    @Test
+    void searchAcceptsGeneratedAndLegacyAccountNumbers() throws Exception {
+        for (String accountNumber : new String[]{VALID_NUMBER, LEGACY_NUMBER}) {
+            mockMvc.perform(post("/api/bank-accounts/search")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(search(accountNumber)))
+                    .andExpect(status().isOk());
+        }
+
+        verify(bankAccountService, times(2)).getBankAccountByAccountDetails(any());
+    }
+
+    private static String search(String accountNumber) {
+        return "{\"accountNumber\":\"" + accountNumber + "\",\"accountName\":\"Employee 1\"}";
+    }
+
+    @TestConfiguration
+    static class MetricsConfig {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.salary.management.logic;
+
+import com.salary.management.repository.EmployeeRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static com.salary.management.utils.Constants.Employee.ID_SEQUENCE_BLOCK_SIZE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Verifies that the employee ID sequence outlives a rolled-back first hire, so neither this
+ * node nor another one hands out an ID twice afterwards.
+ */
+@DataJpaTest
+@Import(EmployeeIdAllocator.class)
+// The allocations must run in transactions of their own, as they do in production
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class EmployeeIdAllocatorTest {
+
+    @Autowired
+    private EmployeeIdAllocator employeeIdAllocator;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Test
+    void rolledBackFirstAllocationKeepsTheSequence() {
+        long first = transactionTemplate.execute(status -> {
+            long id = Long.parseLong(employeeIdAllocator.nextEmployeeId());
+            // As a create that fails on uk_employees_bank_account would
+            status.setRollbackOnly();
+            return id;
+        });
+
+        long next = Long.parseLong(employeeIdAllocator.nextEmployeeId());
+        // Another node starting now reserves its own block from the surviving sequence
+        long otherNode = Long.parseLong(
+                new EmployeeIdAllocator(jdbcTemplate, entityManagerFactory, employeeRepository, 4).nextEmployeeId());
+
+        assertThat(next).isGreaterThan(first);
+        assertThat(otherNode).isGreaterThanOrEqualTo(first + ID_SEQUENCE_BLOCK_SIZE);
+    }
+
+    @Test
+    void refusesToCreateTheSequenceInsideATransaction() {
+        assertThatThrownBy(() -> transactionTemplate.executeWithoutResult(status ->
+                new EmployeeIdAllocator(jdbcTemplate, entityManagerFactory, employeeRepository, 4)))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
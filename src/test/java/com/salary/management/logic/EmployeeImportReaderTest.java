@@ -0,0 +1,106 @@
+package com.salary.management.logic;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.salary.management.logic.EmployeeImportReader.Format;
+import com.salary.management.logic.EmployeeImportReader.Row;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifies CSV quoting and header handling and that unreadable rows come back as errors
+ * with their line number instead of stopping the import.
+ */
+class EmployeeImportReaderTest {
+
+    private static final String CSV_HEADER = "name,grade,address,mobileNumber,accountName,accountNumber";
+
+    @Test
+    void quotedCsvFieldsKeepCommasAndDoubledQuotes() throws IOException {
+        List<Row> rows = readAll(Format.CSV, CSV_HEADER + "\n"
+                + "\"Doe, Jane\",2,\"12 \"\"Main\"\" Road, Dhaka\",01700000000,\"Doe, Jane\",0000000001\n");
+
+        assertThat(rows).hasSize(1);
+        Row row = rows.get(0);
+        assertThat(row.error()).isNull();
+        assertThat(row.rowNumber()).isEqualTo(2);
+        assertThat(row.request().getName()).isEqualTo("Doe, Jane");
+        assertThat(row.request().getGrade()).isEqualTo(2);
+        assertThat(row.request().getAddress()).isEqualTo("12 \"Main\" Road, Dhaka");
+        assertThat(row.request().getAccountName()).isEqualTo("Doe, Jane");
+        assertThat(row.request().getAccountNumber()).isEqualTo("0000000001");
+    }
+
+    @Test
+    void csvColumnsAreMappedByHeaderNameAndMissingTrailingFieldsAreNull() throws IOException {
+        List<Row> rows = readAll(Format.CSV,
+                "accountNumber,accountName,mobileNumber,address,grade,name\n"
+                        + "0000000001,Jane,01700000000\n");
+
+        Row row = rows.get(0);
+        assertThat(row.request().getAccountNumber()).isEqualTo("0000000001");
+        assertThat(row.request().getMobileNumber()).isEqualTo("01700000000");
+        assertThat(row.request().getAddress()).isNull();
+        assertThat(row.request().getGrade()).isNull();
+        assertThat(row.request().getName()).isNull();
+    }
+
+    @Test
+    void csvHeaderWithMissingColumnsEndsTheImport() throws IOException {
+        List<Row> rows = readAll(Format.CSV, "name,grade,address\n"
+                + "Jane,2,Dhaka\n");
+
+        assertThat(rows).hasSize(1);
+        assertThat(rows.get(0).rowNumber()).isEqualTo(1);
+        assertThat(rows.get(0).request()).isNull();
+        assertThat(rows.get(0).error()).isEqualTo("CSV header is missing columns: mobileNumber, accountName, accountNumber");
+    }
+
+    @Test
+    void nonNumericGradeFailsOnlyItsRow() throws IOException {
+        List<Row> rows = readAll(Format.CSV, CSV_HEADER + "\n"
+                + "Jane,two,Dhaka,01700000000,Jane,0000000001\n"
+                + "\n"
+                + "John,3,Dhaka,01700000001,John,0000000002\n");
+
+        assertThat(rows).hasSize(2);
+        assertThat(rows.get(0).rowNumber()).isEqualTo(2);
+        assertThat(rows.get(0).error()).isEqualTo("Grade must be a number");
+        // Blank lines are skipped but still counted
+        assertThat(rows.get(1).rowNumber()).isEqualTo(4);
+        assertThat(rows.get(1).request().getGrade()).isEqualTo(3);
+    }
+
+    @Test
+    void malformedNdjsonLineFailsOnlyItsRow() throws IOException {
+        List<Row> rows = readAll(Format.NDJSON,
+                "{\"name\":\"Jane\",\"grade\":2,\"accountNumber\":\"0000000001\"}\n"
+                        + "{\"name\":\"John\",\"grade\":\n"
+                        + "{\"name\":\"Joan\",\"grade\":4}\n");
+
+        assertThat(rows).hasSize(3);
+        assertThat(rows.get(0).request().getName()).isEqualTo("Jane");
+        assertThat(rows.get(0).request().getAccountNumber()).isEqualTo("0000000001");
+        assertThat(rows.get(1).rowNumber()).isEqualTo(2);
+        assertThat(rows.get(1).request()).isNull();
+        assertThat(rows.get(1).error()).startsWith("Malformed JSON: ");
+        assertThat(rows.get(2).request().getGrade()).isEqualTo(4);
+    }
+
+    private static List<Row> readAll(Format format, String body) throws IOException {
+        EmployeeImportReader reader = new EmployeeImportReader(
+                new BufferedReader(new StringReader(body)), format, new ObjectMapper());
+        List<Row> rows = new ArrayList<>();
+        Row row;
+        while ((row = reader.next()) != null) {
+            rows.add(row);
+        }
+        return rows;
+    }
+}
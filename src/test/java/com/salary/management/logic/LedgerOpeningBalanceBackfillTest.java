@@ -0,0 +1,70 @@
+package com.salary.management.logic;
+
+import com.salary.management.dto.Ledger.LedgerTransferDTO;
+import com.salary.management.entity.CompanyAccount;
+import com.salary.management.entity.LedgerAccountType;
+import com.salary.management.repository.CompanyAccountRepository;
+import com.salary.management.service.impl.LedgerService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifies that accounts created before the ledger get an opening balance that makes their
+ * ledger balance match the account, once, including accounts already paid from since.
+ */
+@DataJpaTest
+@Import({LedgerService.class, LedgerOpeningBalanceBackfill.class})
+// The backfill commits its own transaction, as it does on startup
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class LedgerOpeningBalanceBackfillTest {
+
+    private static final String EMPLOYEE_ACCOUNT = "000000000026";
+
+    @Autowired
+    private LedgerOpeningBalanceBackfill backfill;
+
+    @Autowired
+    private LedgerService ledgerService;
+
+    @Autowired
+    private CompanyAccountRepository companyAccountRepository;
+
+    @Test
+    void recordsTheMissingOpeningBalanceOnce() {
+        // Funded with 500 before the ledger existed, then 100 was paid out with the ledger in place
+        companyAccountRepository.save(companyAccount("000000000018", "400.00"));
+        ledgerService.recordTransfer(new LedgerTransferDTO(
+                LedgerAccountType.COMPANY, "000000000018",
+                LedgerAccountType.BANK, EMPLOYEE_ACCOUNT, new BigDecimal("100.00"), "TEST"));
+        assertThat(balance("000000000018")).isEqualByComparingTo("-100.00");
+
+        backfill.backfillOpeningBalances();
+        assertThat(balance("000000000018")).isEqualByComparingTo("400.00");
+
+        backfill.backfillOpeningBalances();
+        assertThat(balance("000000000018")).isEqualByComparingTo("400.00");
+    }
+
+    private BigDecimal balance(String accountNumber) {
+        return ledgerService.getBalance(LedgerAccountType.COMPANY, accountNumber).getBalance();
+    }
+
+    private static CompanyAccount companyAccount(String accountNumber, String balance) {
+        CompanyAccount account = new CompanyAccount();
+        account.setAccountName("Company");
+        account.setAccountNumber(accountNumber);
+        account.setCurrentBalance(new BigDecimal(balance));
+        account.setPaidBalance(BigDecimal.ZERO);
+        account.setBankName("Test Bank");
+        account.setBranchName("Main");
+        return account;
+    }
+}
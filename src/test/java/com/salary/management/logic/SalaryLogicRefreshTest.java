@@ -0,0 +1,44 @@
+package com.salary.management.logic;
+
+import com.salary.management.entity.BaseSalary;
+import com.salary.management.repository.BaseSalaryRepository;
+import com.salary.management.utils.Money;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifies that a base salary changed by another node, i.e. without going through this
+ * node's BaseSalaryService, reaches the grade table on the next refresh.
+ */
+@DataJpaTest
+@Import(SalaryLogic.class)
+class SalaryLogicRefreshTest {
+
+    @Autowired
+    private SalaryLogic salaryLogic;
+
+    @Autowired
+    private BaseSalaryRepository baseSalaryRepository;
+
+    @Test
+    void refreshPicksUpBaseSalaryChangedElsewhere() {
+        BaseSalary baseSalary = new BaseSalary();
+        baseSalary.setAmount(new BigDecimal("20000.00"));
+        baseSalaryRepository.saveAndFlush(baseSalary);
+        assertThat(salaryLogic.getGradeSalaryTable().getBaseSalary()).isEqualTo(Money.of(new BigDecimal("20000.00")));
+
+        baseSalary.setAmount(new BigDecimal("25000.00"));
+        baseSalaryRepository.saveAndFlush(baseSalary);
+        assertThat(salaryLogic.getGradeSalaryTable().getBaseSalary()).isEqualTo(Money.of(new BigDecimal("20000.00")));
+
+        salaryLogic.refreshGradeSalaryTable();
+
+        assertThat(salaryLogic.getGradeSalaryTable().getBaseSalary()).isEqualTo(Money.of(new BigDecimal("25000.00")));
+    }
+}
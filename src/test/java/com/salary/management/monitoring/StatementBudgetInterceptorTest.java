@@ -0,0 +1,96 @@
+package com.salary.management.monitoring;
+
+import com.salary.management.controller.SalaryController;
+import com.salary.management.dto.Salary.BaseSalaryResponseDTO;
+import com.salary.management.service.IBaseSalaryService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+
+import static com.salary.management.monitoring.StatementBudgetInterceptor.STATEMENT_COUNT_HEADER;
+import static com.salary.management.utils.Constants.Metrics.STATEMENT_BUDGET_EXCEEDED;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Verifies that controller requests report their statement count and fail in FAIL mode
+ * when they exceed the endpoint's statement budget.
+ */
+@WebMvcTest(controllers = SalaryController.class, properties = "statement-budget.mode=FAIL")
+@Import({StatementCountInspector.class, StatementBudgetInterceptorTest.MetricsConfig.class})
+class StatementBudgetInterceptorTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private StatementCountInspector statementCountInspector;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @MockitoBean
+    private IBaseSalaryService baseSalaryService;
+
+    @Test
+    void reportsStatementCountWithinBudget() throws Exception {
+        stubBaseSalaryRunningStatements(2);
+
+        mockMvc.perform(get("/api/salary/getBaseSalary"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(STATEMENT_COUNT_HEADER, "2"));
+
+        assertThat(meterRegistry.find(STATEMENT_BUDGET_EXCEEDED).counter()).isNull();
+    }
+
+    @Test
+    void failsRequestOverBudget() throws Exception {
+        stubBaseSalaryRunningStatements(3);
+
+        mockMvc.perform(get("/api/salary/getBaseSalary"))
+                .andExpect(status().isInternalServerError())
+                .andExpect(header().string(STATEMENT_COUNT_HEADER, "3"))
+                .andExpect(jsonPath("$.message").value(
+                        "SalaryController.getBaseSalary ran 3 SQL statements, over its budget of 2"));
+
+        assertThat(meterRegistry.get(STATEMENT_BUDGET_EXCEEDED).counter().count()).isEqualTo(1.0);
+    }
+
+    /**
+     * Makes the stubbed service pass the given number of statements through the inspector,
+     * as Hibernate would.
+     */
+    private void stubBaseSalaryRunningStatements(int statements) {
+        when(baseSalaryService.getBaseSalary()).thenAnswer(invocation -> {
+            for (int i = 0; i < statements; i++) {
+                statementCountInspector.inspect("select 1");
+            }
+            BaseSalaryResponseDTO response = new BaseSalaryResponseDTO();
+            response.setDescription("lowest_grade_salary");
+            response.setAmount(new BigDecimal("20000.00"));
+            return response;
+        });
+    }
+
+    @TestConfiguration
+    static class MetricsConfig {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+}
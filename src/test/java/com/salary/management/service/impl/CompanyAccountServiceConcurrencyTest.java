@@ -0,0 +1,275 @@
+package com.salary.management.service.impl;
+
+import com.salary.management.dto.CompanyAccount.CompanyAccountAddFundsRequestDTO;
+import com.salary.management.dto.CompanyAccount.CompanyAccountRequestDTO;
+import com.salary.management.dto.Salary.TransferRequestDTO;
+import com.salary.management.entity.AccountType;
+import com.salary.management.entity.BankAccount;
+import com.salary.management.entity.BaseSalary;
+import com.salary.management.entity.CompanyAccount;
+import com.salary.management.entity.Employee;
+import com.salary.management.entity.LedgerAccountType;
+import com.salary.management.exception.CustomException;
+import com.salary.management.logic.OptimisticRetryLogic;
+import com.salary.management.logic.SalaryLogic;
+import com.salary.management.logic.SequenceBlockAccountNumberGenerator;
+import com.salary.management.repository.BankAccountRepository;
+import com.salary.management.repository.BaseSalaryRepository;
+import com.salary.management.repository.CompanyAccountRepository;
+import com.salary.management.repository.EmployeeRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpStatus;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Fires thousands of concurrent salary transfers and fund additions at a few shared company
+ * accounts, one of them underfunded, and checks that no money is created, lost or overdrawn:
+ * every balance matches the operations that succeeded, the paid balance of each company
+ * account equals the salaries it transferred, and the ledger agrees with the accounts.
+ * Logs the throughput achieved, so locking and batching changes can be compared.
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:concurrency;MODE=PostgreSQL;LOCK_TIMEOUT=30000;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "account.optimistic-retry.max-attempts=20"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({CompanyAccountService.class, LedgerService.class, OptimisticRetryLogic.class, SalaryLogic.class,
+        SequenceBlockAccountNumberGenerator.class, CompanyAccountServiceConcurrencyTest.MetricsConfig.class})
+// Every service call must commit its own transaction, as it does in production
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class CompanyAccountServiceConcurrencyTest {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CompanyAccountServiceConcurrencyTest.class);
+    private static final int THREADS = 16;
+    private static final int EMPLOYEES = 50;
+    private static final int TRANSFERS = 3000;
+    private static final int ADD_FUNDS = 1000;
+    private static final BigDecimal ADDED_AMOUNT = new BigDecimal("100.00");
+    private static final BigDecimal FUNDED_OPENING_BALANCE = new BigDecimal("500000000.00");
+    // Covers only a few salaries, so concurrent transfers keep running into insufficient funds
+    private static final BigDecimal UNDERFUNDED_OPENING_BALANCE = new BigDecimal("250000.00");
+
+    @Autowired
+    private CompanyAccountService companyAccountService;
+
+    @Autowired
+    private LedgerService ledgerService;
+
+    @Autowired
+    private SalaryLogic salaryLogic;
+
+    @Autowired
+    private BaseSalaryRepository baseSalaryRepository;
+
+    @Autowired
+    private BankAccountRepository bankAccountRepository;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private CompanyAccountRepository companyAccountRepository;
+
+    @Test
+    void concurrentTransfersAndAddedFundsConserveMoney() throws Exception {
+        BaseSalary baseSalary = new BaseSalary();
+        baseSalary.setAmount(new BigDecimal("20000.00"));
+        baseSalaryRepository.save(baseSalary);
+
+        List<Employee> employees = new ArrayList<>();
+        for (int i = 1; i <= EMPLOYEES; i++) {
+            employees.add(employeeRepository.save(employee(i)));
+        }
+
+        // The first account takes most of the load, the last one is underfunded
+        Map<String, BigDecimal> openingBalances = new HashMap<>();
+        List<String> companyAccounts = new ArrayList<>();
+        for (BigDecimal openingBalance : List.of(FUNDED_OPENING_BALANCE, FUNDED_OPENING_BALANCE, UNDERFUNDED_OPENING_BALANCE)) {
+            String accountNumber = companyAccountService.createCompanyAccount(new CompanyAccountRequestDTO(
+                    "Company " + companyAccounts.size(), openingBalance, "Test Bank", "Main")).getAccountNumber();
+            companyAccounts.add(accountNumber);
+            openingBalances.put(accountNumber, openingBalance);
+        }
+
+        Map<String, BigDecimal> paidByCompany = new ConcurrentHashMap<>();
+        Map<String, BigDecimal> addedByCompany = new ConcurrentHashMap<>();
+        Map<String, BigDecimal> creditedByAccount = new ConcurrentHashMap<>();
+        AtomicInteger insufficientFunds = new AtomicInteger();
+        AtomicInteger conflicts = new AtomicInteger();
+
+        List<Runnable> operations = new ArrayList<>(TRANSFERS + ADD_FUNDS);
+        SplittableRandom random = new SplittableRandom(42);
+        for (int i = 0; i < TRANSFERS; i++) {
+            String companyAccount = companyAccounts.get(pickCompanyAccount(random));
+            Employee employee = employees.get(random.nextInt(EMPLOYEES));
+            BigDecimal salary = salaryLogic.getSalaryForGrade(employee.getGrade()).getTotalSalary().toBigDecimal();
+            operations.add(() -> {
+                try {
+                    companyAccountService.transferSalary(transfer(companyAccount, employee.getEmployeeId()));
+                    paidByCompany.merge(companyAccount, salary, BigDecimal::add);
+                    creditedByAccount.merge(employee.getBankAccount().getAccountNumber(), salary, BigDecimal::add);
+                } catch (CustomException e) {
+                    assertThat(e.getStatus()).isEqualTo(HttpStatus.BAD_REQUEST);
+                    insufficientFunds.incrementAndGet();
+                }
+            });
+        }
+        for (int i = 0; i < ADD_FUNDS; i++) {
+            String companyAccount = companyAccounts.get(pickCompanyAccount(random));
+            operations.add(() -> {
+                try {
+                    companyAccountService.addFundsToCompanyAccount(addFunds(companyAccount));
+                    addedByCompany.merge(companyAccount, ADDED_AMOUNT, BigDecimal::add);
+                } catch (CustomException e) {
+                    // Retries exhausted; the operation must not have moved any money
+                    assertThat(e.getStatus()).isEqualTo(HttpStatus.CONFLICT);
+                    conflicts.incrementAndGet();
+                }
+            });
+        }
+        shuffle(operations, random);
+
+        long start = System.nanoTime();
+        runConcurrently(operations);
+        double elapsedSeconds = (System.nanoTime() - start) / 1e9;
+        LOGGER.info("{} transfers and {} fund additions on {} threads in {} ms: {} operations/s "
+                        + "({} insufficient funds, {} unresolved conflicts)",
+                TRANSFERS, ADD_FUNDS, THREADS, Math.round(elapsedSeconds * 1000),
+                Math.round(operations.size() / elapsedSeconds), insufficientFunds.get(), conflicts.get());
+
+        String underfunded = companyAccounts.get(2);
+        assertThat(insufficientFunds.get()).isPositive();
+        assertThat(paidByCompany.get(underfunded)).isNotNull();
+
+        BigDecimal totalBefore = BigDecimal.ZERO;
+        BigDecimal totalAfter = BigDecimal.ZERO;
+        BigDecimal totalAdded = BigDecimal.ZERO;
+        for (String accountNumber : companyAccounts) {
+            CompanyAccount account = companyAccountRepository.findByAccountNumber(accountNumber);
+            BigDecimal paid = paidByCompany.getOrDefault(accountNumber, BigDecimal.ZERO);
+            BigDecimal added = addedByCompany.getOrDefault(accountNumber, BigDecimal.ZERO);
+
+            assertThat(account.getCurrentBalance()).isNotNegative();
+            assertThat(account.getPaidBalance()).isEqualByComparingTo(paid);
+            assertThat(account.getCurrentBalance())
+                    .isEqualByComparingTo(openingBalances.get(accountNumber).add(added).subtract(paid));
+            assertThat(ledgerService.getBalance(LedgerAccountType.COMPANY, accountNumber).getBalance())
+                    .isEqualByComparingTo(account.getCurrentBalance());
+
+            totalBefore = totalBefore.add(openingBalances.get(accountNumber));
+            totalAfter = totalAfter.add(account.getCurrentBalance());
+            totalAdded = totalAdded.add(added);
+        }
+        for (Employee employee : employees) {
+            BankAccount account = bankAccountRepository.findByAccountNumber(employee.getBankAccount().getAccountNumber());
+            BigDecimal credited = creditedByAccount.getOrDefault(account.getAccountNumber(), BigDecimal.ZERO);
+
+            assertThat(account.getCurrentBalance()).isNotNegative();
+            assertThat(account.getCurrentBalance()).isEqualByComparingTo(credited);
+            assertThat(ledgerService.getBalance(LedgerAccountType.BANK, account.getAccountNumber()).getBalance())
+                    .isEqualByComparingTo(credited);
+            totalAfter = totalAfter.add(account.getCurrentBalance());
+        }
+
+        // Money only enters through added funds and never leaves the company and employee accounts
+        assertThat(totalAfter).isEqualByComparingTo(totalBefore.add(totalAdded));
+    }
+
+    /**
+     * Runs all operations on a fixed pool and rethrows the first failure, including failed assertions.
+     */
+    private static void runConcurrently(List<Runnable> operations) throws Exception {
+        try (ExecutorService executor = Executors.newFixedThreadPool(THREADS)) {
+            List<Future<?>> futures = new ArrayList<>(operations.size());
+            for (Runnable operation : operations) {
+                futures.add(executor.submit(operation));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+    }
+
+    private static int pickCompanyAccount(SplittableRandom random) {
+        int value = random.nextInt(100);
+        return value < 60 ? 0 : value < 85 ? 1 : 2;
+    }
+
+    private static void shuffle(List<Runnable> operations, SplittableRandom random) {
+        for (int i = operations.size() - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            operations.set(j, operations.set(i, operations.get(j)));
+        }
+    }
+
+    private static TransferRequestDTO transfer(String companyAccountNumber, String employeeId) {
+        TransferRequestDTO request = new TransferRequestDTO();
+        request.setCompanyAccountNumber(companyAccountNumber);
+        request.setEmployeeId(employeeId);
+        return request;
+    }
+
+    private static CompanyAccountAddFundsRequestDTO addFunds(String companyAccountNumber) {
+        CompanyAccountAddFundsRequestDTO request = new CompanyAccountAddFundsRequestDTO();
+        request.setAccountNumber(companyAccountNumber);
+        request.setAmount(ADDED_AMOUNT);
+        return request;
+    }
+
+    private static Employee employee(int index) {
+        BankAccount bankAccount = new BankAccount();
+        bankAccount.setAccountName("Employee " + index);
+        bankAccount.setAccountNumber(String.format("ACC%07d", index));
+        bankAccount.setCurrentBalance(BigDecimal.ZERO);
+        bankAccount.setBankName("Test Bank");
+        bankAccount.setBranchName("Main");
+        bankAccount.setAccountType(AccountType.SAVINGS);
+
+        Employee employee = new Employee();
+        employee.setEmployeeId(String.format("%04d", index));
+        employee.setName("Employee " + index);
+        employee.setGrade(1 + index % 6);
+        employee.setAddress("Dhaka");
+        employee.setMobileNumber("01700000000");
+        employee.setBankAccount(bankAccount);
+        return employee;
+    }
+
+    @TestConfiguration
+    static class MetricsConfig {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.salary.management.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.salary.management.dto.Employee.EmployeeImportResultDTO;
+import com.salary.management.dto.Employee.EmployeeImportResultDTO.ImportStatus;
+import com.salary.management.entity.AccountType;
+import com.salary.management.entity.BankAccount;
+import com.salary.management.logic.EmployeeIdAllocator;
+import com.salary.management.logic.EmployeeImportReader;
+import com.salary.management.logic.GradeCapacityLogic;
+import com.salary.management.repository.BankAccountRepository;
+import com.salary.management.repository.EmployeeRepository;
+import com.salary.management.repository.GradeCapacityRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Imports a CSV body mixing valid rows with unparseable, invalid, unknown-account,
+ * already-owned-account and full-grade rows across several small batches, and checks
+ * that every row gets its own result and only the valid rows take seats.
+ */
+@DataJpaTest(properties = {
+        "employee.grade-limits=2,8,8,8,8,8",
+        "employee.import.batch-size=3"
+})
+@Import({EmployeeImportService.class, EmployeeIdAllocator.class, GradeCapacityLogic.class,
+        EmployeeImportServiceTest.ImportConfig.class})
+// Every batch must commit its own transaction, as it does in production
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class EmployeeImportServiceTest {
+
+    @Autowired
+    private EmployeeImportService employeeImportService;
+
+    @Autowired
+    private BankAccountRepository bankAccountRepository;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private GradeCapacityRepository gradeCapacityRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void mixedRowsAreReportedOneByOne() throws Exception {
+        for (int i = 1; i <= 4; i++) {
+            bankAccountRepository.save(bankAccount(i));
+        }
+        String body = "name,grade,address,mobileNumber,accountName,accountNumber\n"
+                + "\"Doe, Jane\",1,Dhaka,01700000001,Holder 1,0000000001\n"
+                + "Bob,1,Dhaka,01700000002,Holder 2,0000000002\n"
+                // Grade 1 holds two employees
+                + "Carl,1,Dhaka,01700000003,Holder 3,0000000003\n"
+                + "Dan,one,Dhaka,01700000004,Holder 4,0000000004\n"
+                + "Eve,2,Dhaka,123,Holder 4,0000000004\n"
+                + "Fay,2,Dhaka,01700000006,Holder 9,0000000009\n"
+                // Owned by the employee created from line 2, in an earlier batch
+                + "Gus,2,Dhaka,01700000007,Holder 1,0000000001\n"
+                + "Hal,2,Dhaka,01700000008,Holder 4,0000000004\n";
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        employeeImportService.importEmployees(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)),
+                EmployeeImportReader.Format.CSV, output);
+
+        List<EmployeeImportResultDTO> results = new ArrayList<>();
+        for (String line : output.toString(StandardCharsets.UTF_8).split("\n")) {
+            results.add(objectMapper.readValue(line, EmployeeImportResultDTO.class));
+        }
+        assertThat(results).extracting(EmployeeImportResultDTO::getRowNumber).containsExactly(2, 3, 4, 5, 6, 7, 8, 9);
+        assertThat(results).extracting(EmployeeImportResultDTO::getStatus).containsExactly(
+                ImportStatus.CREATED, ImportStatus.CREATED, ImportStatus.FAILED, ImportStatus.FAILED,
+                ImportStatus.FAILED, ImportStatus.FAILED, ImportStatus.FAILED, ImportStatus.CREATED);
+        assertThat(results.get(2).getMessage()).isEqualTo("Maximum number of employees reached for grade 1");
+        assertThat(results.get(3).getMessage()).isEqualTo("Grade must be a number");
+        assertThat(results.get(4).getMessage()).isEqualTo("Mobile number must be 11 digits");
+        assertThat(results.get(5).getMessage()).isEqualTo("Bank account does not exist.");
+        assertThat(results.get(6).getMessage()).isEqualTo("This account owner is someone else.");
+        assertThat(results.get(0).getEmployeeId()).isNotEqualTo(results.get(1).getEmployeeId());
+
+        assertThat(employeeRepository.count()).isEqualTo(3);
+        assertThat(gradeCapacityRepository.findById(1).orElseThrow().getOccupied()).isEqualTo(2);
+        assertThat(gradeCapacityRepository.findById(2).orElseThrow().getOccupied()).isEqualTo(1);
+    }
+
+    private static BankAccount bankAccount(int index) {
+        BankAccount bankAccount = new BankAccount();
+        bankAccount.setAccountName("Holder " + index);
+        bankAccount.setAccountNumber(String.format("%010d", index));
+        bankAccount.setCurrentBalance(BigDecimal.ZERO);
+        bankAccount.setBankName("Test Bank");
+        bankAccount.setBranchName("Main");
+        bankAccount.setAccountType(AccountType.SAVINGS);
+        return bankAccount;
+    }
+
+    @TestConfiguration
+    static class ImportConfig {
+
+        @Bean
+        ObjectMapper objectMapper() {
+            return new ObjectMapper();
+        }
+
+        @Bean
+        LocalValidatorFactoryBean validator() {
+            return new LocalValidatorFactoryBean();
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package com.salary.management.service.impl;
+
+import com.salary.management.dto.Employee.EmployeeUpdateRequestDTO;
+import com.salary.management.entity.AccountType;
+import com.salary.management.entity.BankAccount;
+import com.salary.management.entity.BaseSalary;
+import com.salary.management.entity.Employee;
+import com.salary.management.exception.CustomException;
+import com.salary.management.logic.EmployeeIdAllocator;
+import com.salary.management.logic.EmployeeLogic;
+import com.salary.management.logic.GradeCapacityLogic;
+import com.salary.management.logic.SalaryLogic;
+import com.salary.management.repository.BaseSalaryRepository;
+import com.salary.management.repository.EmployeeRepository;
+import com.salary.management.repository.GradeCapacityRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpStatus;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Fires concurrent grade changes at a small set of employees, many of them at the same
+ * employee and some into full grades, and checks that the occupied seats of every grade
+ * still match the number of employees in it.
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:grade-concurrency;MODE=PostgreSQL;LOCK_TIMEOUT=30000;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        // Tight enough that some moves run into a full grade
+        "employee.grade-limits=8,8,8,8,8,8"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({EmployeeService.class, EmployeeLogic.class, EmployeeIdAllocator.class, GradeCapacityLogic.class,
+        SalaryLogic.class, EmployeeServiceConcurrencyTest.MetricsConfig.class})
+// Every service call must commit its own transaction, as it does in production
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class EmployeeServiceConcurrencyTest {
+
+    private static final int THREADS = 16;
+    private static final int EMPLOYEES = 30;
+    private static final int GRADE_CHANGES = 600;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private GradeCapacityLogic gradeCapacityLogic;
+
+    @Autowired
+    private BaseSalaryRepository baseSalaryRepository;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private GradeCapacityRepository gradeCapacityRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void concurrentGradeChangesKeepOccupiedSeatsInStep() throws Exception {
+        BaseSalary baseSalary = new BaseSalary();
+        baseSalary.setAmount(new BigDecimal("20000.00"));
+        baseSalaryRepository.save(baseSalary);
+
+        // The capacity rows were created empty on startup; take a seat per employee as a hire would
+        for (int i = 1; i <= EMPLOYEES; i++) {
+            Employee employee = employeeRepository.save(employee(i));
+            transactionTemplate.executeWithoutResult(status -> gradeCapacityLogic.reserve(employee.getGrade()));
+        }
+
+        AtomicInteger fullGrades = new AtomicInteger();
+        List<Runnable> operations = new ArrayList<>(GRADE_CHANGES);
+        SplittableRandom random = new SplittableRandom(42);
+        for (int i = 0; i < GRADE_CHANGES; i++) {
+            // Half of the changes hit the first few employees, so the same row is updated concurrently
+            int index = random.nextBoolean() ? 1 + random.nextInt(3) : 1 + random.nextInt(EMPLOYEES);
+            String employeeId = String.format("%04d", index);
+            int grade = 1 + random.nextInt(6);
+            operations.add(() -> {
+                try {
+                    employeeService.updateEmployeeById(employeeId, update(index, grade));
+                } catch (CustomException e) {
+                    assertThat(e.getStatus()).isEqualTo(HttpStatus.BAD_REQUEST);
+                    fullGrades.incrementAndGet();
+                }
+            });
+        }
+
+        runConcurrently(operations);
+
+        assertThat(fullGrades.get()).isPositive();
+        for (int grade = 1; grade <= 6; grade++) {
+            int occupied = gradeCapacityRepository.findById(grade).orElseThrow().getOccupied();
+            assertThat(occupied).as("occupied seats of grade %d", grade)
+                    .isEqualTo((int) employeeRepository.countByGrade(grade))
+                    .isLessThanOrEqualTo(8);
+        }
+    }
+
+    /**
+     * Runs all operations on a fixed pool and rethrows the first failure, including failed assertions.
+     */
+    private static void runConcurrently(List<Runnable> operations) throws Exception {
+        try (ExecutorService executor = Executors.newFixedThreadPool(THREADS)) {
+            List<Future<?>> futures = new ArrayList<>(operations.size());
+            for (Runnable operation : operations) {
+                futures.add(executor.submit(operation));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+    }
+
+    private static EmployeeUpdateRequestDTO update(int index, int grade) {
+        return new EmployeeUpdateRequestDTO("Employee " + index, grade, "Dhaka", "01700000000");
+    }
+
+    private static Employee employee(int index) {
+        BankAccount bankAccount = new BankAccount();
+        bankAccount.setAccountName("Employee " + index);
+        bankAccount.setAccountNumber(String.format("ACC%07d", index));
+        bankAccount.setCurrentBalance(BigDecimal.ZERO);
+        bankAccount.setBankName("Test Bank");
+        bankAccount.setBranchName("Main");
+        bankAccount.setAccountType(AccountType.SAVINGS);
+
+        Employee employee = new Employee();
+        employee.setEmployeeId(String.format("%04d", index));
+        employee.setName("Employee " + index);
+        employee.setGrade(1 + index % 6);
+        employee.setAddress("Dhaka");
+        employee.setMobileNumber("01700000000");
+        employee.setBankAccount(bankAccount);
+        return employee;
+    }
+
+    @TestConfiguration
+    static class MetricsConfig {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.salary.management.service.impl;
+
+import com.salary.management.dto.Employee.EmployeeResponseDTO;
+import com.salary.management.entity.AccountType;
+import com.salary.management.entity.BankAccount;
+import com.salary.management.entity.BaseSalary;
+import com.salary.management.entity.Employee;
+import com.salary.management.logic.EmployeeIdAllocator;
+import com.salary.management.logic.EmployeeLogic;
+import com.salary.management.logic.GradeCapacityLogic;
+import com.salary.management.logic.SalaryLogic;
+import com.salary.management.response.BatchGetResponse;
+import com.salary.management.response.CustomResponse;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifies that employee read paths issue a constant number of SQL statements,
+ * independent of how many employees are returned.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({EmployeeService.class, EmployeeLogic.class, EmployeeIdAllocator.class,
+        GradeCapacityLogic.class, SalaryLogic.class})
+class EmployeeServiceQueryCountTest {
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private SalaryLogic salaryLogic;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @BeforeEach
+    void setUp() {
+        BaseSalary baseSalary = new BaseSalary();
+        baseSalary.setAmount(new BigDecimal("20000.00"));
+        entityManager.persist(baseSalary);
+        entityManager.flush();
+        // Warm the grade salary table so it is not counted against the request
+        salaryLogic.getGradeSalaryTable();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 10, 50})
+    void getAllEmployeesRunsOneStatementRegardlessOfEmployeeCount(int employeeCount) {
+        for (int i = 1; i <= employeeCount; i++) {
+            persistEmployee(i);
+        }
+
+        Statistics statistics = resetStatistics();
+        CustomResponse<EmployeeResponseDTO> page = employeeService.getAllEmployees(null, 100);
+
+        assertThat(page.getContent()).hasSize(employeeCount);
+        assertThat(page.getContent()).allSatisfy(employee ->
+                assertThat(employee.getBankAccountDetails().getAccountNumber()).isNotNull());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void getEmployeeByIdRunsOneStatement() {
+        persistEmployee(1);
+
+        Statistics statistics = resetStatistics();
+        EmployeeResponseDTO employee = employeeService.getEmployeeById("0001");
+
+        assertThat(employee.getBankAccountDetails().getAccountNumber()).isEqualTo("ACC0000001");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void getEmployeesByIdsRunsOneStatementAndKeepsRequestOrder() {
+        for (int i = 1; i <= 20; i++) {
+            persistEmployee(i);
+        }
+
+        Statistics statistics = resetStatistics();
+        BatchGetResponse<EmployeeResponseDTO> response =
+                employeeService.getEmployeesByIds(List.of("0015", "0003", "9999", "0003", "0007"));
+
+        assertThat(response.getFound()).containsOnlyKeys("0015", "0003", "0007");
+        assertThat(response.getFound().keySet()).containsExactly("0015", "0003", "0007");
+        assertThat(response.getFound().get("0003").getBankAccountDetails().getAccountNumber()).isEqualTo("ACC0000003");
+        assertThat(response.getNotFound()).containsExactly("9999");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    private void persistEmployee(int index) {
+        BankAccount bankAccount = new BankAccount();
+        bankAccount.setAccountName("Employee " + index);
+        bankAccount.setAccountNumber(String.format("ACC%07d", index));
+        bankAccount.setCurrentBalance(BigDecimal.ZERO);
+        bankAccount.setBankName("Test Bank");
+        bankAccount.setBranchName("Main");
+        bankAccount.setAccountType(AccountType.SAVINGS);
+        entityManager.persist(bankAccount);
+
+        Employee employee = new Employee();
+        employee.setEmployeeId(String.format("%04d", index));
+        employee.setName("Employee " + index);
+        employee.setGrade(1 + index % 6);
+        employee.setAddress("Dhaka");
+        employee.setMobileNumber("01700000000");
+        employee.setBankAccount(bankAccount);
+        entityManager.persist(employee);
+    }
+
+    private Statistics resetStatistics() {
+        entityManager.flush();
+        entityManager.clear();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        return statistics;
+    }
+}
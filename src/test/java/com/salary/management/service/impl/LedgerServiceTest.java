@@ -0,0 +1,80 @@
+package com.salary.management.service.impl;
+
+import com.salary.management.dto.Ledger.LedgerTransferDTO;
+import com.salary.management.entity.LedgerAccountType;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.Instant;
+
+import static com.salary.management.utils.Constants.Ledger.EXTERNAL_FUNDING_ACCOUNT;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifies that compaction keeps ledger balances unchanged and folds an entry that becomes
+ * visible only after entries with higher IDs were compacted, as a long transaction's entry would.
+ */
+@DataJpaTest
+@Import(LedgerService.class)
+// Every write must commit on its own, as it does in production
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class LedgerServiceTest {
+
+    @Autowired
+    private LedgerService ledgerService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void compactionKeepsBalances() {
+        fund("COMPACT-1", "100.00");
+        fund("COMPACT-1", "50.00");
+        assertThat(balance("COMPACT-1")).isEqualByComparingTo("150.00");
+
+        assertThat(ledgerService.compactSnapshots()).isPositive();
+        assertThat(balance("COMPACT-1")).isEqualByComparingTo("150.00");
+
+        fund("COMPACT-1", "25.00");
+        assertThat(balance("COMPACT-1")).isEqualByComparingTo("175.00");
+        ledgerService.compactSnapshots();
+        assertThat(balance("COMPACT-1")).isEqualByComparingTo("175.00");
+    }
+
+    @Test
+    void entryCommittedLateWithALowerIdIsNotSkipped() {
+        fund("LATE-1", "100.00");
+        ledgerService.compactSnapshots();
+
+        // Lower than every ID compacted so far, as an entry whose transaction commits late would be
+        jdbcTemplate.update("INSERT INTO ledger_entries (id, transaction_id, account_type, account_number, "
+                        + "entry_type, amount, reference, created_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?)",
+                -1L, "late-transaction", "COMPANY", "LATE-1", "CREDIT", new BigDecimal("40.00"), "LATE",
+                Timestamp.from(Instant.now().minusSeconds(3600)));
+        assertThat(balance("LATE-1")).isEqualByComparingTo("140.00");
+
+        ledgerService.compactSnapshots();
+
+        assertThat(balance("LATE-1")).isEqualByComparingTo("140.00");
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM ledger_entries WHERE compaction_run IS NULL AND account_number = 'LATE-1'",
+                Long.class)).isZero();
+    }
+
+    private void fund(String companyAccountNumber, String amount) {
+        ledgerService.recordTransfer(new LedgerTransferDTO(
+                LedgerAccountType.EXTERNAL, EXTERNAL_FUNDING_ACCOUNT,
+                LedgerAccountType.COMPANY, companyAccountNumber, new BigDecimal(amount), "TEST"));
+    }
+
+    private BigDecimal balance(String companyAccountNumber) {
+        return ledgerService.getBalance(LedgerAccountType.COMPANY, companyAccountNumber).getBalance();
+    }
+}
@@ -0,0 +1,234 @@
+package com.salary.management.service.impl;
+
+import com.salary.management.dto.Salary.PayrollRunRequestDTO;
+import com.salary.management.dto.Salary.PayrollRunResponseDTO;
+import com.salary.management.dto.Salary.PayrollRunResponseDTO.EmployeePayment;
+import com.salary.management.dto.Salary.PayrollRunResponseDTO.PaymentStatus;
+import com.salary.management.entity.AccountType;
+import com.salary.management.entity.BankAccount;
+import com.salary.management.entity.BaseSalary;
+import com.salary.management.entity.CompanyAccount;
+import com.salary.management.entity.Employee;
+import com.salary.management.entity.LedgerAccountType;
+import com.salary.management.exception.CustomException;
+import com.salary.management.logic.SalaryLogic;
+import com.salary.management.repository.BankAccountRepository;
+import com.salary.management.repository.BaseSalaryRepository;
+import com.salary.management.repository.CompanyAccountRepository;
+import com.salary.management.repository.EmployeeRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Runs payroll over small employee sets with tiny chunks, and checks that every chunk is paid
+ * or failed as a whole, that the filtered path reports unknown employees and employees without
+ * a bank account, and that a repeated idempotency key is rejected without paying again.
+ */
+@DataJpaTest
+@Import({PayrollService.class, LedgerService.class, SalaryLogic.class})
+// Every chunk must commit its own transaction, as it does in production
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class PayrollServiceTest {
+
+    private static final String COMPANY_ACCOUNT = "COMPANY-PAYROLL";
+    private static final int GRADE = 3;
+
+    @Autowired
+    private PayrollService payrollService;
+
+    @Autowired
+    private LedgerService ledgerService;
+
+    @Autowired
+    private SalaryLogic salaryLogic;
+
+    @Autowired
+    private BaseSalaryRepository baseSalaryRepository;
+
+    @Autowired
+    private CompanyAccountRepository companyAccountRepository;
+
+    @Autowired
+    private BankAccountRepository bankAccountRepository;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private BigDecimal salary;
+
+    @BeforeEach
+    void setUp() {
+        if (baseSalaryRepository.count() == 0) {
+            BaseSalary baseSalary = new BaseSalary();
+            baseSalary.setAmount(new BigDecimal("20000.00"));
+            baseSalaryRepository.save(baseSalary);
+        }
+        salary = salaryLogic.getSalaryForGrade(GRADE).getTotalSalary().toBigDecimal();
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM payroll_runs");
+        jdbcTemplate.update("DELETE FROM ledger_entries");
+        jdbcTemplate.update("DELETE FROM employees");
+        jdbcTemplate.update("DELETE FROM bank_accounts");
+        jdbcTemplate.update("DELETE FROM company_accounts");
+    }
+
+    @Test
+    void paysEveryEmployeeChunkByChunk() {
+        companyAccount(salary.multiply(BigDecimal.TEN));
+        for (int i = 1; i <= 5; i++) {
+            employeeRepository.save(employee(i, true));
+        }
+        employeeRepository.save(employee(6, false));
+
+        PayrollRunResponseDTO response = payrollService.runPayroll(COMPANY_ACCOUNT, "run-all", chunkSize(2));
+
+        Map<String, EmployeePayment> payments = byEmployeeId(response);
+        assertThat(response.getTotalEmployees()).isEqualTo(6);
+        assertThat(response.getPaidCount()).isEqualTo(5);
+        assertThat(response.getTotalPaid()).isEqualByComparingTo(salary.multiply(BigDecimal.valueOf(5)));
+        assertThat(payments.get("0006").getStatus()).isEqualTo(PaymentStatus.FAILED);
+        assertThat(payments.get("0006").getMessage()).isEqualTo("No bank account");
+
+        assertThat(companyBalance()).isEqualByComparingTo(salary.multiply(BigDecimal.valueOf(5)));
+        for (int i = 1; i <= 5; i++) {
+            assertThat(bankBalance(i)).isEqualByComparingTo(salary);
+            assertThat(ledgerService.getBalance(LedgerAccountType.BANK, bankAccountNumber(i)).getBalance())
+                    .isEqualByComparingTo(salary);
+        }
+    }
+
+    @Test
+    void chunkThatCannotBeCoveredFailsAsAWhole() {
+        // Covers the first chunk of two and one salary of the second
+        companyAccount(salary.multiply(BigDecimal.valueOf(3)));
+        for (int i = 1; i <= 4; i++) {
+            employeeRepository.save(employee(i, true));
+        }
+
+        PayrollRunResponseDTO response = payrollService.runPayroll(COMPANY_ACCOUNT, "run-underfunded", chunkSize(2));
+
+        Map<String, EmployeePayment> payments = byEmployeeId(response);
+        assertThat(response.getPaidCount()).isEqualTo(2);
+        assertThat(response.getFailedCount()).isEqualTo(2);
+        assertThat(payments.get("0001").getStatus()).isEqualTo(PaymentStatus.PAID);
+        assertThat(payments.get("0002").getStatus()).isEqualTo(PaymentStatus.PAID);
+        assertThat(payments.get("0003").getMessage()).isEqualTo("Insufficient funds in company account");
+        assertThat(payments.get("0004").getMessage()).isEqualTo("Insufficient funds in company account");
+
+        assertThat(companyBalance()).isEqualByComparingTo(salary);
+        assertThat(bankBalance(3)).isEqualByComparingTo(BigDecimal.ZERO);
+        assertThat(bankBalance(4)).isEqualByComparingTo(BigDecimal.ZERO);
+    }
+
+    @Test
+    void paysOnlyRequestedEmployees() {
+        companyAccount(salary.multiply(BigDecimal.TEN));
+        for (int i = 1; i <= 3; i++) {
+            employeeRepository.save(employee(i, true));
+        }
+        employeeRepository.save(employee(4, false));
+
+        PayrollRunRequestDTO request = new PayrollRunRequestDTO(List.of("0001", "0003", "9999", "0004", "0001"), 2);
+        PayrollRunResponseDTO response = payrollService.runPayroll(COMPANY_ACCOUNT, "run-filtered", request);
+
+        Map<String, EmployeePayment> payments = byEmployeeId(response);
+        assertThat(response.getTotalEmployees()).isEqualTo(4);
+        assertThat(payments.get("0001").getStatus()).isEqualTo(PaymentStatus.PAID);
+        assertThat(payments.get("0003").getStatus()).isEqualTo(PaymentStatus.PAID);
+        assertThat(payments.get("9999").getMessage()).isEqualTo("Employee not found");
+        assertThat(payments.get("0004").getMessage()).isEqualTo("No bank account");
+        assertThat(payments).doesNotContainKey("0002");
+
+        assertThat(bankBalance(1)).isEqualByComparingTo(salary);
+        assertThat(bankBalance(2)).isEqualByComparingTo(BigDecimal.ZERO);
+        assertThat(bankBalance(3)).isEqualByComparingTo(salary);
+    }
+
+    @Test
+    void repeatedIdempotencyKeyIsRejectedWithoutPayingAgain() {
+        companyAccount(salary.multiply(BigDecimal.TEN));
+        employeeRepository.save(employee(1, true));
+
+        payrollService.runPayroll(COMPANY_ACCOUNT, "run-once", null);
+
+        assertThatThrownBy(() -> payrollService.runPayroll(COMPANY_ACCOUNT, "run-once", null))
+                .isInstanceOfSatisfying(CustomException.class,
+                        e -> assertThat(e.getStatus()).isEqualTo(HttpStatus.CONFLICT));
+        assertThat(bankBalance(1)).isEqualByComparingTo(salary);
+    }
+
+    private static PayrollRunRequestDTO chunkSize(int chunkSize) {
+        return new PayrollRunRequestDTO(null, chunkSize);
+    }
+
+    private static Map<String, EmployeePayment> byEmployeeId(PayrollRunResponseDTO response) {
+        return response.getPayments().stream()
+                .collect(Collectors.toMap(EmployeePayment::getEmployeeId, Function.identity()));
+    }
+
+    private void companyAccount(BigDecimal balance) {
+        CompanyAccount account = new CompanyAccount();
+        account.setAccountName("Payroll Company");
+        account.setAccountNumber(COMPANY_ACCOUNT);
+        account.setCurrentBalance(balance);
+        account.setPaidBalance(BigDecimal.ZERO);
+        account.setBankName("Test Bank");
+        account.setBranchName("Main");
+        companyAccountRepository.save(account);
+    }
+
+    private BigDecimal companyBalance() {
+        return companyAccountRepository.findByAccountNumber(COMPANY_ACCOUNT).getCurrentBalance();
+    }
+
+    private BigDecimal bankBalance(int index) {
+        return bankAccountRepository.findByAccountNumber(bankAccountNumber(index)).getCurrentBalance();
+    }
+
+    private static String bankAccountNumber(int index) {
+        return String.format("ACC%07d", index);
+    }
+
+    private static Employee employee(int index, boolean withBankAccount) {
+        Employee employee = new Employee();
+        employee.setEmployeeId(String.format("%04d", index));
+        employee.setName("Employee " + index);
+        employee.setGrade(GRADE);
+        employee.setAddress("Dhaka");
+        employee.setMobileNumber("01700000000");
+        if (withBankAccount) {
+            BankAccount bankAccount = new BankAccount();
+            bankAccount.setAccountName("Employee " + index);
+            bankAccount.setAccountNumber(bankAccountNumber(index));
+            bankAccount.setCurrentBalance(BigDecimal.ZERO);
+            bankAccount.setBankName("Test Bank");
+            bankAccount.setBranchName("Main");
+            bankAccount.setAccountType(AccountType.SAVINGS);
+            employee.setBankAccount(bankAccount);
+        }
+        return employee;
+    }
+}